@@ -0,0 +1,30 @@
+package telekinesis.client;
+
+import java.util.concurrent.TimeUnit;
+
+public class ReconnectRateLimiter {
+
+    // shared by all clients in this JVM, so a CM outage does not make the whole pool reconnect at once
+    public static final ReconnectRateLimiter GLOBAL = new ReconnectRateLimiter(10.0, 10);
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private long theoreticalArrival;
+
+    public ReconnectRateLimiter(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0.0 || burst < 1) {
+            throw new IllegalArgumentException("rate and burst must be positive");
+        }
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        this.burstNanos = (burst - 1) * intervalNanos;
+        this.theoreticalArrival = System.nanoTime();
+    }
+
+    // reserves a permit at or after the requested time, and returns the time it was granted for
+    public synchronized long reserve(long requestedNanos) {
+        long granted = Math.max(requestedNanos, theoreticalArrival - burstNanos);
+        theoreticalArrival = Math.max(theoreticalArrival, granted) + intervalNanos;
+        return granted;
+    }
+
+}
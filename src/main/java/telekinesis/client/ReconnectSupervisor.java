@@ -0,0 +1,184 @@
+package telekinesis.client;
+
+import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.ScheduledFuture;
+import telekinesis.connection.ClientMessageContext;
+import telekinesis.logger.PrintfLogger;
+import telekinesis.logger.PrintfLoggerFactory;
+import telekinesis.util.Publisher.Handler;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+public class ReconnectSupervisor {
+
+    private static final PrintfLogger log = PrintfLoggerFactory.getLogger("steam.reconnect");
+
+    public enum HeldMessagePolicy {
+        REPLAY,
+        FAIL
+    }
+
+    private final EventLoop eventLoop;
+    private final Runnable reconnectAction;
+    private final Consumer<UndeliveredMessage> undeliveredHandler;
+
+    private boolean enabled = true;
+    private long baseDelayMillis = 1000L;
+    private long maxDelayMillis = 120000L;
+    private int maxAttempts = 10;
+    private ReconnectRateLimiter rateLimiter = ReconnectRateLimiter.GLOBAL;
+    private HeldMessagePolicy heldMessagePolicy = HeldMessagePolicy.REPLAY;
+    private int maxHeldMessages = 1000;
+
+    private final Deque<HeldMessage> heldMessages = new ArrayDeque<>();
+    private boolean reconnecting;
+    private int attempts;
+    private long lastDelayMillis;
+    private ScheduledFuture<?> reconnectFuture;
+
+    ReconnectSupervisor(EventLoop eventLoop, Runnable reconnectAction, Consumer<UndeliveredMessage> undeliveredHandler) {
+        this.eventLoop = eventLoop;
+        this.reconnectAction = reconnectAction;
+        this.undeliveredHandler = undeliveredHandler;
+    }
+
+    public synchronized boolean isEnabled() {
+        return enabled;
+    }
+
+    public synchronized void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public synchronized void setBaseDelayMillis(long baseDelayMillis) {
+        this.baseDelayMillis = baseDelayMillis;
+    }
+
+    public synchronized void setMaxDelayMillis(long maxDelayMillis) {
+        this.maxDelayMillis = maxDelayMillis;
+    }
+
+    // 0 means retry forever, by default the supervisor gives up after 10 attempts in a row
+    public synchronized void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public synchronized void setRateLimiter(ReconnectRateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    public synchronized void setHeldMessagePolicy(HeldMessagePolicy heldMessagePolicy) {
+        this.heldMessagePolicy = heldMessagePolicy;
+    }
+
+    public synchronized void setMaxHeldMessages(int maxHeldMessages) {
+        this.maxHeldMessages = maxHeldMessages;
+    }
+
+    public synchronized boolean isReconnecting() {
+        return reconnecting;
+    }
+
+    public synchronized int getAttempts() {
+        return attempts;
+    }
+
+    synchronized boolean scheduleReconnect() {
+        if (!enabled) {
+            return false;
+        }
+        if (maxAttempts > 0 && attempts >= maxAttempts) {
+            log.warn("giving up after %d reconnect attempts", attempts);
+            return false;
+        }
+        reconnecting = true;
+        attempts++;
+        lastDelayMillis = nextDelayMillis();
+        long now = System.nanoTime();
+        long delayNanos = rateLimiter.reserve(now + TimeUnit.MILLISECONDS.toNanos(lastDelayMillis)) - now;
+        log.info("reconnect attempt %d in %d ms", attempts, TimeUnit.NANOSECONDS.toMillis(delayNanos));
+        reconnectFuture = eventLoop.schedule(this::reconnect, delayNanos, TimeUnit.NANOSECONDS);
+        return true;
+    }
+
+    private long nextDelayMillis() {
+        // decorrelated jitter: anywhere between the base delay and three times the previous delay
+        long upper = Math.min(maxDelayMillis, Math.max(baseDelayMillis, lastDelayMillis * 3));
+        return baseDelayMillis + ThreadLocalRandom.current().nextLong(upper - baseDelayMillis + 1);
+    }
+
+    private void reconnect() {
+        synchronized (this) {
+            reconnectFuture = null;
+        }
+        reconnectAction.run();
+    }
+
+    synchronized boolean hold(int appId, Object body, Handler<ClientMessageContext, ?> callback) {
+        if (!reconnecting) {
+            return false;
+        }
+        if (heldMessages.size() >= maxHeldMessages) {
+            HeldMessage dropped = heldMessages.removeFirst();
+            undeliveredHandler.accept(new UndeliveredMessage(dropped.appId, dropped.body));
+        }
+        heldMessages.addLast(new HeldMessage(appId, body, callback));
+        return true;
+    }
+
+    synchronized void release(Handler<ClientMessageContext, ?> callback) {
+        heldMessages.removeIf(m -> m.callback == callback);
+    }
+
+    // the session is back: returns the messages to replay, or fails them according to the policy
+    synchronized List<HeldMessage> succeeded() {
+        reconnecting = false;
+        attempts = 0;
+        lastDelayMillis = 0L;
+        if (heldMessagePolicy == HeldMessagePolicy.FAIL) {
+            failHeldMessages();
+            return Collections.emptyList();
+        }
+        List<HeldMessage> result = new ArrayList<>(heldMessages);
+        heldMessages.clear();
+        return result;
+    }
+
+    synchronized void abandon() {
+        if (reconnectFuture != null) {
+            reconnectFuture.cancel(false);
+            reconnectFuture = null;
+        }
+        reconnecting = false;
+        attempts = 0;
+        lastDelayMillis = 0L;
+        failHeldMessages();
+    }
+
+    private void failHeldMessages() {
+        while (!heldMessages.isEmpty()) {
+            HeldMessage m = heldMessages.removeFirst();
+            undeliveredHandler.accept(new UndeliveredMessage(m.appId, m.body));
+        }
+    }
+
+    static class HeldMessage {
+        final int appId;
+        final Object body;
+        final Handler<ClientMessageContext, ?> callback;
+
+        private HeldMessage(int appId, Object body, Handler<ClientMessageContext, ?> callback) {
+            this.appId = appId;
+            this.body = body;
+            this.callback = callback;
+        }
+    }
+
+}
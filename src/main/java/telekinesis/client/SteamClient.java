@@ -2,12 +2,15 @@ package telekinesis.client;
 
 import com.google.protobuf.ByteString;
 import io.netty.channel.EventLoopGroup;
-import org.slf4j.Logger;
+import telekinesis.TelekinesisException;
 import telekinesis.client.module.GameConnectTokens;
 import telekinesis.client.module.SteamFriends;
 import telekinesis.connection.ClientMessageContext;
+import telekinesis.connection.ConnectAttempt;
+import telekinesis.connection.ConnectionReaped;
 import telekinesis.connection.ConnectionState;
 import telekinesis.connection.SteamConnection;
+import telekinesis.logger.PrintfLogger;
 import telekinesis.logger.PrintfLoggerFactory;
 import telekinesis.message.SimpleClientMessageTypeRegistry;
 import telekinesis.message.proto.generated.steam.SM_ClientServer;
@@ -18,20 +21,26 @@ import telekinesis.model.steam.EMsg;
 import telekinesis.model.steam.EOSType;
 import telekinesis.model.steam.EPersonaState;
 import telekinesis.model.steam.EResult;
+import telekinesis.storage.SteamStorage;
 import telekinesis.util.MessageDispatcher;
 import telekinesis.util.Publisher;
+import telekinesis.util.StreamPublisher;
 
 import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.security.NoSuchAlgorithmException;
-import java.util.ArrayList;
-import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
 
 public class SteamClient extends Publisher<SteamClient> implements ClientMessageHandler {
 
-    private static final Logger log = PrintfLoggerFactory.getLogger("steam");
+    private static final PrintfLogger log = PrintfLoggerFactory.getLogger("steam");
 
     private static final SimpleClientMessageTypeRegistry HANDLED_MESSAGES = new SimpleClientMessageTypeRegistry()
             .registerProto(EMsg.ClientLogon.v(), SM_ClientServer.CMsgClientLogon.class)
@@ -43,24 +52,44 @@ public class SteamClient extends Publisher<SteamClient> implements ClientMessage
             .registerProto(EMsg.ClientNewLoginKeyAccepted.v(), SM_ClientServer.CMsgClientNewLoginKeyAccepted.class)
             .registerProto(EMsg.ClientHeartBeat.v(), SM_ClientServer.CMsgClientHeartBeat.class)
             .registerProto(EMsg.ClientPlayingSessionState.v(), SM_ClientServer.CMsgClientPlayingSessionState.class)
-            .registerProto(EMsg.ClientGamesPlayedWithDataBlob.v(), SM_ClientServer.CMsgClientGamesPlayed.class);
+            .registerProto(EMsg.ClientGamesPlayedWithDataBlob.v(), SM_ClientServer.CMsgClientGamesPlayed.class)
+            .registerProto(EMsg.ClientCMList.v(), SM_ClientServer.CMsgClientCMList.class);
+
+    private static final int CONNECT_RACE_WIDTH = 3;
+    private static final long CONNECT_RACE_STAGGER_MILLIS = 250L;
 
     private final EventLoopGroup workerGroup;
     private final SteamClientDelegate delegate;
+    private final SteamStorage storage;
     private final SteamDatagramNetwork datagramNetwork;
+    private final SteamServerDirectory serverDirectory;
+    private final ReconnectSupervisor reconnectSupervisor;
     private final MessageDispatcher selfHandledMessageDispatcher;
     private final Set<SteamClientModule> modules;
+    private final Map<Integer, MessageDispatcher> messageSubscribers;
+    private final Map<Integer, Map<Class<?>, StreamPublisher<?>>> messageStreams;
 
-    private SteamConnection connection;
-    private int publicIp;
-    private int playingApp;
-    private SteamClientState clientState;
+    private final SteamConnection connection;
+    // session state is confined to the connection's event loop, see SteamConnection
+    private volatile int publicIp;
+    private volatile int playingApp;
+    private volatile SteamClientState clientState;
+    private boolean loggingInWithLoginKey;
 
     public SteamClient(EventLoopGroup workerGroup, SteamClientDelegate delegate) {
         this.workerGroup = workerGroup;
         this.delegate = delegate;
-        this.datagramNetwork = new SteamDatagramNetwork(workerGroup.next(), delegate);
-        this.modules = new LinkedHashSet<>();
+        this.storage = delegate.getStorage();
+        this.connection = new SteamConnection(workerGroup, this);
+        // the config fetch blocks on http, so it stays off the connection's event loop
+        this.datagramNetwork = new SteamDatagramNetwork(workerGroup.next(), storage);
+        this.serverDirectory = new SteamServerDirectory(storage);
+        // reconnects run on the connection's event loop, like the state changes that trigger them
+        this.reconnectSupervisor = new ReconnectSupervisor(connection.getEventLoop(), this::reconnect, m -> publish(this, m));
+        // registered from any thread, walked for every message on the event loop
+        this.modules = new CopyOnWriteArraySet<>();
+        this.messageSubscribers = new ConcurrentHashMap<>();
+        this.messageStreams = new ConcurrentHashMap<>();
 
         selfHandledMessageDispatcher = new MessageDispatcher();
         selfHandledMessageDispatcher.subscribe(SM_ClientServer.CMsgClientLogonResponse.class, this::handleClientLogonResponse);
@@ -68,12 +97,14 @@ public class SteamClient extends Publisher<SteamClient> implements ClientMessage
         selfHandledMessageDispatcher.subscribe(SM_ClientServer.CMsgClientAccountInfo.class, this::handleClientAccountInfo);
         selfHandledMessageDispatcher.subscribe(SM_ClientServer.CMsgClientNewLoginKey.class, this::handleClientNewLoginKey);
         selfHandledMessageDispatcher.subscribe(SM_ClientServer.CMsgClientPlayingSessionState.class, this::handleClientPlayingSessionState);
+        selfHandledMessageDispatcher.subscribe(SM_ClientServer.CMsgClientCMList.class, this::handleClientCMList);
 
         clientState = SteamClientState.LOGGED_OFF;
 
-        connection = new SteamConnection(workerGroup, this);
         connection.addRegistry(HANDLED_MESSAGES);
         connection.subscribe(ConnectionState.class, this::handleConnectionStateChange);
+        connection.subscribe(ConnectAttempt.class, this::handleConnectAttempt);
+        connection.subscribe(ConnectionReaped.class, this::handleConnectionReaped);
 
         registerModule(new SteamFriends());
         registerModule(new GameConnectTokens());
@@ -90,6 +121,11 @@ public class SteamClient extends Publisher<SteamClient> implements ClientMessage
         if (modules.remove(module)) {
             connection.removeRegistry(module.getHandledMessages());
             module.setSteamClient(null);
+            // the streams of an app end with the last module for it, the Steam app's streams belong to the client
+            int appId = module.getAppId();
+            if (appId != AppId.STEAM && modules.stream().noneMatch(m -> m.getAppId() == appId)) {
+                terminateStreams(appId, null);
+            }
         }
     }
 
@@ -102,60 +138,81 @@ public class SteamClient extends Publisher<SteamClient> implements ClientMessage
         return null;
     }
 
-    private final List<SteamServer> serverList = new ArrayList<>();
-    private final AtomicInteger serverIndex = new AtomicInteger(0);
-
-    {
-        serverList.add(new SteamServer("208.78.164.9", 27017));
-        serverList.add(new SteamServer("208.78.164.9", 27018));
-        serverList.add(new SteamServer("208.78.164.9", 27019));
-        serverList.add(new SteamServer("208.78.164.10", 27017));
-        serverList.add(new SteamServer("208.78.164.10", 27018));
-        serverList.add(new SteamServer("208.78.164.10", 27019));
-        serverList.add(new SteamServer("208.78.164.11", 27017));
-        serverList.add(new SteamServer("208.78.164.11", 27018));
-        serverList.add(new SteamServer("208.78.164.11", 27019));
-        serverList.add(new SteamServer("208.78.164.12", 27017));
-        serverList.add(new SteamServer("208.78.164.12", 27018));
-        serverList.add(new SteamServer("208.78.164.12", 27019));
-        serverList.add(new SteamServer("208.78.164.13", 27017));
-        serverList.add(new SteamServer("208.78.164.13", 27018));
-        serverList.add(new SteamServer("208.78.164.13", 27019));
-        serverList.add(new SteamServer("208.78.164.14", 27017));
-        serverList.add(new SteamServer("208.78.164.14", 27018));
-        serverList.add(new SteamServer("208.78.164.14", 27019));
-    }
-
     public int getPlayingApp() {
         return playingApp;
     }
 
-    private static class SteamServer {
-        private final String address;
-        private final int port;
-        private SteamServer(String address, int port) {
-            this.address = address;
-            this.port = port;
-        }
-    }
-
     public void connect() {
-        final SteamServer steamServer = serverList.get(serverIndex.getAndIncrement() % serverList.size());
-        connection.connect(steamServer.address, steamServer.port);
+        connection.connect(serverDirectory.selectCandidates(CONNECT_RACE_WIDTH), CONNECT_RACE_STAGGER_MILLIS);
         datagramNetwork.connect();
     }
 
+    private void reconnect() {
+        log.info("reconnecting %s", delegate.getAccountName());
+        connection.connect(serverDirectory.selectCandidates(CONNECT_RACE_WIDTH), CONNECT_RACE_STAGGER_MILLIS);
+    }
+
     public void disconnect() {
+        reconnectSupervisor.abandon();
         connection.disconnect();
         datagramNetwork.disconnect();
     }
 
+    // disconnects for good and unregisters all modules, so they give back what they hold
+    public void shutdown() {
+        disconnect();
+        for (SteamClientModule<?> module : modules) {
+            unregisterModule(module);
+        }
+    }
+
     public void send(Object body) {
         send(AppId.STEAM, body);
     }
 
     public void send(int appId, Object body) {
-        connection.send(appId, body);
+        if (!reconnectSupervisor.hold(appId, body, null)) {
+            connection.send(appId, body);
+        }
+    }
+
+    public void sendBatch(List<?> bodies) {
+        sendBatch(AppId.STEAM, bodies);
+    }
+
+    public void sendBatch(int appId, List<?> bodies) {
+        if (reconnectSupervisor.isReconnecting()) {
+            for (Object body : bodies) {
+                send(appId, body);
+            }
+        } else {
+            connection.sendBatch(appId, bodies);
+        }
+    }
+
+    public boolean trySend(Object body) {
+        return trySend(AppId.STEAM, body);
+    }
+
+    public boolean trySend(int appId, Object body) {
+        return !reconnectSupervisor.isReconnecting() && connection.trySend(appId, body);
+    }
+
+    public CompletableFuture<Void> sendAsync(Object body) {
+        return sendAsync(AppId.STEAM, body);
+    }
+
+    public CompletableFuture<Void> sendAsync(int appId, Object body) {
+        if (reconnectSupervisor.isReconnecting()) {
+            CompletableFuture<Void> result = new CompletableFuture<>();
+            result.completeExceptionally(new TelekinesisException("reconnecting, %s was not sent", body.getClass().getSimpleName()));
+            return result;
+        }
+        return connection.sendAsync(appId, body);
+    }
+
+    public boolean isWritable() {
+        return !reconnectSupervisor.isReconnecting() && connection.isWritable();
     }
 
     public <P> void request(Object body, Handler<ClientMessageContext, P> callback) {
@@ -163,7 +220,24 @@ public class SteamClient extends Publisher<SteamClient> implements ClientMessage
     }
 
     public <P> void request(int appId, Object body, Handler<ClientMessageContext, P> callback) {
-        connection.request(appId, body, callback);
+        if (!reconnectSupervisor.hold(appId, body, callback)) {
+            connection.request(appId, body, callback);
+        }
+    }
+
+    public void cancelRequest(Handler<ClientMessageContext, ?> callback) {
+        reconnectSupervisor.release(callback);
+        connection.cancelRequest(callback);
+    }
+
+    private void replayHeldMessages() {
+        for (ReconnectSupervisor.HeldMessage m : reconnectSupervisor.succeeded()) {
+            if (m.callback != null) {
+                connection.request(m.appId, m.body, m.callback);
+            } else {
+                connection.send(m.appId, m.body);
+            }
+        }
     }
 
     // TODO: only for testing, remove this
@@ -179,8 +253,15 @@ public class SteamClient extends Publisher<SteamClient> implements ClientMessage
         SM_ClientServer.CMsgClientLogon.Builder logon = SM_ClientServer.CMsgClientLogon.newBuilder();
         logon.setProtocolVersion(65575);
         logon.setAccountName(delegate.getAccountName());
-        logon.setPassword(delegate.getPassword());
-        byte[] sentrySha = delegate.getSentrySha1();
+        logon.setShouldRememberPassword(true);
+        String loginKey = readLoginKey();
+        if (loginKey != null) {
+            logon.setLoginKey(loginKey);
+        } else {
+            logon.setPassword(delegate.getPassword());
+        }
+        loggingInWithLoginKey = loginKey != null;
+        byte[] sentrySha = storage.getSentrySha1();
         if (sentrySha != null) {
             logon.setEresultSentryfile(EResult.OK.v());
             logon.setShaSentryfile(ByteString.copyFrom(sentrySha));
@@ -227,13 +308,28 @@ public class SteamClient extends Publisher<SteamClient> implements ClientMessage
             case BROKEN:
                 connection.disconnect();
                 break;
+            // LOGGED_OFF is final for consumers, it is only reported once the supervisor gives up
             case CONNECTION_FAILED:
+                if (reconnectSupervisor.scheduleReconnect()) {
+                    changeClientState(SteamClientState.CONNECTING);
+                } else {
+                    reconnectSupervisor.abandon();
+                    changeClientState(SteamClientState.LOGGED_OFF);
+                    terminateStreams(-1, new TelekinesisException("connection failed, no more reconnects"));
+                }
+                break;
             case CLOSED:
                 changeClientState(SteamClientState.LOGGED_OFF);
+                terminateStreams(-1, null);
                 break;
             case LOST:
-                changeClientState(SteamClientState.LOST);
-                //connection = null;
+                if (reconnectSupervisor.scheduleReconnect()) {
+                    changeClientState(SteamClientState.LOST);
+                } else {
+                    reconnectSupervisor.abandon();
+                    changeClientState(SteamClientState.LOGGED_OFF);
+                    terminateStreams(-1, new TelekinesisException("connection lost, no more reconnects"));
+                }
                 break;
 
             default:
@@ -241,25 +337,74 @@ public class SteamClient extends Publisher<SteamClient> implements ClientMessage
         }
     }
 
+    protected void handleConnectAttempt(SteamConnection conn, ConnectAttempt attempt) {
+        serverDirectory.recordConnectAttempt(attempt.getAddress(), attempt.isSuccess(), attempt.getLatencyNanos());
+    }
+
+    // a CM that silently stopped talking is ranked like one that refused the connection
+    protected void handleConnectionReaped(SteamConnection conn, ConnectionReaped reaped) {
+        if (reaped.getAddress() instanceof InetSocketAddress) {
+            serverDirectory.recordConnectAttempt((InetSocketAddress) reaped.getAddress(), false, 0L);
+        }
+    }
+
     @Override
     public void handleClientMessage(ClientMessageContext ctx, Object message) throws Exception {
         selfHandledMessageDispatcher.handleClientMessage(ctx, message);
         for (SteamClientModule module : modules) {
             module.handleClientMessage(ctx, message);
         }
+        MessageDispatcher subscribers = messageSubscribers.get(ctx.getAppId());
+        if (subscribers != null) {
+            subscribers.handleClientMessage(ctx, message);
+        }
+    }
+
+    // for messages that bypass the generic dispatch, hands them to the subscribers and streams of their app only
+    public void publishAppMessage(ClientMessageContext ctx, Object message) throws Exception {
+        MessageDispatcher subscribers = messageSubscribers.get(ctx.getAppId());
+        if (subscribers != null) {
+            subscribers.handleClientMessage(ctx, message);
+        }
+    }
+
+    public <E> void subscribeMessage(Class<E> messageClass, Handler<ClientMessageContext, E> handler) {
+        subscribeMessage(AppId.STEAM, messageClass, handler);
+    }
+
+    public <E> void subscribeMessage(int appId, Class<E> messageClass, Handler<ClientMessageContext, E> handler) {
+        messageSubscribers.computeIfAbsent(appId, MessageDispatcher::new).subscribe(messageClass, handler);
+    }
+
+    public <E> void unsubscribeMessage(Class<E> messageClass, Handler<ClientMessageContext, E> handler) {
+        unsubscribeMessage(AppId.STEAM, messageClass, handler);
+    }
+
+    public <E> void unsubscribeMessage(int appId, Class<E> messageClass, Handler<ClientMessageContext, E> handler) {
+        MessageDispatcher subscribers = messageSubscribers.get(appId);
+        if (subscribers != null) {
+            subscribers.unsubscribe(messageClass, handler);
+        }
     }
 
-    protected void handleClientLogonResponse(ClientMessageContext ctx, SM_ClientServer.CMsgClientLogonResponse msg) {
+    protected void handleClientLogonResponse(ClientMessageContext ctx, SM_ClientServer.CMsgClientLogonResponse msg) throws IOException {
         log.info("received logon response");
         if (msg.getEresult() == EResult.OK.v()) {
             connection.enableHeartbeat(msg.getOutOfGameHeartbeatSeconds());
+            replayHeldMessages();
 
             getModule(SteamFriends.class).setPersonaState(EPersonaState.Online);
             changeClientState(SteamClientState.LOGGED_ON);
             publicIp = msg.getPublicIp();
             playingApp = AppId.STEAM;
         } else {
+            if (loggingInWithLoginKey && msg.getEresult() == EResult.InvalidPassword.v()) {
+                log.info("login key was rejected, next logon will use the password");
+                writeLoginKey(null);
+            }
+            reconnectSupervisor.abandon();
             changeClientState(SteamClientState.LOGON_FAILED);
+            terminateStreams(-1, new TelekinesisException("logon failed with result %d", msg.getEresult()));
         }
     }
 
@@ -271,8 +416,8 @@ public class SteamClient extends Publisher<SteamClient> implements ClientMessage
 
         SM_ClientServer.CMsgClientUpdateMachineAuthResponse.Builder builder = SM_ClientServer.CMsgClientUpdateMachineAuthResponse.newBuilder();
         try {
-            delegate.writeFile(msg.getFilename(), msg.getOffset(), msg.getBytes().asReadOnlyByteBuffer());
-            builder.setShaFile(ByteString.copyFrom(delegate.getSentrySha1()));
+            storage.writeSentry(msg.getFilename(), msg.getOffset(), msg.getBytes().asReadOnlyByteBuffer());
+            builder.setShaFile(ByteString.copyFrom(storage.getSentrySha1()));
             builder.setEresult(EResult.OK.v());
             builder.setCubwrote(msg.getCubtowrite());
             builder.setFilename(msg.getFilename());
@@ -289,16 +434,74 @@ public class SteamClient extends Publisher<SteamClient> implements ClientMessage
 
     protected void handleClientNewLoginKey(ClientMessageContext ctx, SM_ClientServer.CMsgClientNewLoginKey msg) throws IOException {
         log.info("received client new login key");
+        writeLoginKey(msg.getLoginKey());
         SM_ClientServer.CMsgClientNewLoginKeyAccepted.Builder response = SM_ClientServer.CMsgClientNewLoginKeyAccepted.newBuilder();
         response.setUniqueId(msg.getUniqueId());
         ctx.reply(response);
     }
 
+    private String readLoginKey() throws IOException {
+        ByteBuffer buf = storage.read(SteamClientDelegate.LOGIN_KEY_FILE);
+        return buf != null ? StandardCharsets.UTF_8.decode(buf).toString() : null;
+    }
+
+    private void writeLoginKey(String loginKey) throws IOException {
+        if (loginKey == null) {
+            storage.delete(SteamClientDelegate.LOGIN_KEY_FILE);
+        } else {
+            storage.write(SteamClientDelegate.LOGIN_KEY_FILE, 0, StandardCharsets.UTF_8.encode(loginKey), true);
+        }
+    }
+
     private void handleClientPlayingSessionState(ClientMessageContext ctx, SM_ClientServer.CMsgClientPlayingSessionState msg) {
         playingApp = msg.getPlayingApp();
         publish(this, msg);
     }
 
+    private void handleClientCMList(ClientMessageContext ctx, SM_ClientServer.CMsgClientCMList msg) {
+        serverDirectory.update(msg);
+    }
+
+    public <E> org.reactivestreams.Publisher<E> stream(Class<E> messageClass) {
+        return stream(AppId.STEAM, messageClass);
+    }
+
+    // the stream filed under a message class is always created for that class
+    @SuppressWarnings("unchecked")
+    public <E> org.reactivestreams.Publisher<E> stream(int appId, Class<E> messageClass) {
+        return (StreamPublisher<E>) messageStreams
+                .computeIfAbsent(appId, k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(messageClass, k -> createStream(appId, messageClass));
+    }
+
+    // ends the subscriptions of the streams of one app, or of all apps for -1. With a cause they fail, without they complete
+    private void terminateStreams(int appId, Throwable cause) {
+        for (Map.Entry<Integer, Map<Class<?>, StreamPublisher<?>>> app : messageStreams.entrySet()) {
+            if (appId != -1 && app.getKey() != appId) {
+                continue;
+            }
+            for (StreamPublisher<?> stream : app.getValue().values()) {
+                if (cause != null) {
+                    stream.error(cause);
+                } else {
+                    stream.complete();
+                }
+            }
+        }
+    }
+
+    private <E> StreamPublisher<E> createStream(int appId, Class<E> messageClass) {
+        // a subscriber that runs out of demand pauses the socket, until it requests more
+        Object readPauseOwner = new Object();
+        StreamPublisher<E> stream = new StreamPublisher<>(backlogged -> connection.setReadPaused(readPauseOwner, backlogged));
+        subscribeMessage(appId, messageClass, (ctx, message) -> stream.emit(message));
+        return stream;
+    }
+
+    public SteamClientState getClientState() {
+        return clientState;
+    }
+
     public int getPublicIp() {
         return publicIp;
     }
@@ -307,6 +510,10 @@ public class SteamClient extends Publisher<SteamClient> implements ClientMessage
         return connection.getSteamId();
     }
 
+    public SteamConnection getConnection() {
+        return connection;
+    }
+
     public EventLoopGroup getWorkerGroup() {
         return workerGroup;
     }
@@ -315,8 +522,20 @@ public class SteamClient extends Publisher<SteamClient> implements ClientMessage
         return delegate;
     }
 
+    public SteamStorage getStorage() {
+        return storage;
+    }
+
     public SteamDatagramNetwork getDatagramNetwork() {
         return datagramNetwork;
     }
 
+    public SteamServerDirectory getServerDirectory() {
+        return serverDirectory;
+    }
+
+    public ReconnectSupervisor getReconnectSupervisor() {
+        return reconnectSupervisor;
+    }
+
 }
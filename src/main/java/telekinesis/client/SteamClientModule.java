@@ -33,4 +33,8 @@ public abstract class SteamClientModule<C> extends Publisher<C> implements Clien
         this.steamClient = steamClient;
     }
 
+    public <E> org.reactivestreams.Publisher<E> stream(Class<E> messageClass) {
+        return steamClient.stream(appId, messageClass);
+    }
+
 }
@@ -3,41 +3,38 @@ package telekinesis.client;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.netty.channel.EventLoop;
 import io.netty.util.concurrent.ScheduledFuture;
-import org.slf4j.Logger;
+import telekinesis.logger.PrintfLogger;
 import telekinesis.logger.PrintfLoggerFactory;
-import telekinesis.model.SteamClientDelegate;
 import telekinesis.model.datagram.DataCenter;
 import telekinesis.model.datagram.NetworkConfig;
 import telekinesis.model.datagram.RoutingCluster;
+import telekinesis.storage.SteamStorage;
 
 import java.io.IOException;
 import java.net.HttpURLConnection;
 import java.net.URL;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
-import java.nio.file.Path;
-import java.nio.file.StandardOpenOption;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 public class SteamDatagramNetwork {
 
-    private static final Logger log = PrintfLoggerFactory.getLogger("steam.sdr");
+    private static final PrintfLogger log = PrintfLoggerFactory.getLogger("steam.sdr");
 
     private static final String configFile = "network_config.json";
     private static final ObjectMapper mapper = new ObjectMapper();
 
-    private final SteamClientDelegate delegate;
+    private final SteamStorage storage;
     private final EventLoop eventLoop;
     private NetworkConfig config = new NetworkConfig();
     private ScheduledFuture<?> fetchFuture;
 
-    public SteamDatagramNetwork(EventLoop eventLoop, SteamClientDelegate delegate) {
+    public SteamDatagramNetwork(EventLoop eventLoop, SteamStorage storage) {
         this.eventLoop = eventLoop;
-        this.delegate = delegate;
+        this.storage = storage;
         readConfigFromCache();
     }
 
@@ -70,15 +67,14 @@ public class SteamDatagramNetwork {
 
     private void readConfigFromCache() {
         try {
-            Optional<Path> fileOption = delegate.findFile(configFile).findFirst();
-            if (fileOption.isPresent()) {
-                ByteBuffer buf = delegate.readFile(configFile, null, null);
+            ByteBuffer buf = storage.read(configFile);
+            if (buf != null) {
                 config = mapper.readValue(Charset.forName("UTF-8").decode(buf).toString(), NetworkConfig.class);
             }
         } catch (IOException er) {
             log.error("reading config from cache failed", er);
             try {
-                delegate.deleteFile(configFile);
+                storage.delete(configFile);
             } catch (IOException ed) {
                 log.error("deleting cached config failed", ed);
             }
@@ -96,7 +92,7 @@ public class SteamDatagramNetwork {
             int retrySeconds;
             if (status == 200) {
                 config = mapper.readValue(connection.getInputStream(), NetworkConfig.class);
-                delegate.writeFile(configFile, 0, ByteBuffer.wrap(mapper.writeValueAsString(config).getBytes("UTF-8")), StandardOpenOption.TRUNCATE_EXISTING);
+                storage.write(configFile, 0, ByteBuffer.wrap(mapper.writeValueAsString(config).getBytes("UTF-8")), true);
                 retrySeconds = 600;
             } else {
                 log.warn("querying steam datagram relay config returned unexpected status %d", status);
@@ -0,0 +1,111 @@
+package telekinesis.client;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.net.InetSocketAddress;
+
+public class SteamServer {
+
+    private static final double UNKNOWN_LATENCY_MILLIS = 500.0;
+    private static final double LATENCY_SMOOTHING = 0.3;
+    private static final double FAILURE_PENALTY_MILLIS = 1000.0;
+    private static final double FAILURE_DECAY_MILLIS = 600000.0;
+    private static final int MAX_PENALIZED_FAILURES = 6;
+
+    @JsonProperty("address")
+    private String address;
+    @JsonProperty("port")
+    private int port;
+    @JsonProperty("latency")
+    private double latencyMillis;
+    @JsonProperty("failures")
+    private int failures;
+    @JsonProperty("last_failure")
+    private long lastFailure;
+
+    private SteamServer() {
+    }
+
+    public SteamServer(String address, int port) {
+        this.address = address;
+        this.port = port;
+    }
+
+    public SteamServer(int ip, int port) {
+        this(((ip >>> 24) & 0xFF) + "." + ((ip >>> 16) & 0xFF) + "." + ((ip >>> 8) & 0xFF) + "." + (ip & 0xFF), port);
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public double getLatencyMillis() {
+        return latencyMillis;
+    }
+
+    public int getFailures() {
+        return failures;
+    }
+
+    public boolean matches(InetSocketAddress socketAddress) {
+        return port == socketAddress.getPort() && address.equals(socketAddress.getHostString());
+    }
+
+    public InetSocketAddress toSocketAddress() {
+        return new InetSocketAddress(address, port);
+    }
+
+    void recordSuccess(double sampleMillis) {
+        latencyMillis = latencyMillis == 0.0 ? sampleMillis : latencyMillis + LATENCY_SMOOTHING * (sampleMillis - latencyMillis);
+        failures = 0;
+    }
+
+    void recordFailure(long now) {
+        failures++;
+        lastFailure = now;
+    }
+
+    void copyStatsFrom(SteamServer other) {
+        latencyMillis = other.latencyMillis;
+        failures = other.failures;
+        lastFailure = other.lastFailure;
+    }
+
+    double score(long now) {
+        double score = latencyMillis != 0.0 ? latencyMillis : UNKNOWN_LATENCY_MILLIS;
+        if (failures > 0) {
+            // penalty doubles with every consecutive failure, and fades out while the server is left alone
+            double penalty = FAILURE_PENALTY_MILLIS * (1 << Math.min(failures, MAX_PENALIZED_FAILURES));
+            score += penalty * Math.exp(-(now - lastFailure) / FAILURE_DECAY_MILLIS);
+        }
+        return score;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        SteamServer that = (SteamServer) o;
+
+        if (port != that.port) return false;
+        return address.equals(that.address);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = address.hashCode();
+        result = 31 * result + port;
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return address + ":" + port;
+    }
+
+}
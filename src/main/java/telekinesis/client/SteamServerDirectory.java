@@ -0,0 +1,140 @@
+package telekinesis.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import telekinesis.logger.PrintfLogger;
+import telekinesis.logger.PrintfLoggerFactory;
+import telekinesis.message.proto.generated.steam.SM_ClientServer;
+import telekinesis.storage.SteamStorage;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class SteamServerDirectory {
+
+    private static final PrintfLogger log = PrintfLoggerFactory.getLogger("steam.cm");
+
+    private static final String cacheFile = "cm_list.json";
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private final SteamStorage storage;
+    private final List<SteamServer> servers = new ArrayList<>();
+
+    public SteamServerDirectory(SteamStorage storage) {
+        this.storage = storage;
+        addBootstrapServers();
+        readFromCache();
+    }
+
+    private void addBootstrapServers() {
+        for (int host = 9; host <= 14; host++) {
+            for (int port = 27017; port <= 27019; port++) {
+                servers.add(new SteamServer("208.78.164." + host, port));
+            }
+        }
+    }
+
+    public synchronized List<SteamServer> getServers() {
+        return Collections.unmodifiableList(new ArrayList<>(servers));
+    }
+
+    public synchronized List<InetSocketAddress> selectCandidates(int count) {
+        long now = System.currentTimeMillis();
+        List<SteamServer> ranked = new ArrayList<>(servers);
+        // shuffle first, so that servers with equal score are spread across clients
+        Collections.shuffle(ranked);
+        ranked.sort(Comparator.comparingDouble(s -> s.score(now)));
+        List<InetSocketAddress> result = new ArrayList<>(count);
+        for (int i = 0; i < count && i < ranked.size(); i++) {
+            result.add(ranked.get(i).toSocketAddress());
+        }
+        return result;
+    }
+
+    public synchronized void recordConnectAttempt(InetSocketAddress address, boolean success, long latencyNanos) {
+        SteamServer server = find(address);
+        if (server == null) {
+            return;
+        }
+        if (success) {
+            server.recordSuccess(latencyNanos / 1000000.0);
+            log.debug("connect to %s took %.1f ms, average is now %.1f ms", server, latencyNanos / 1000000.0, server.getLatencyMillis());
+        } else {
+            server.recordFailure(System.currentTimeMillis());
+            log.debug("connect to %s failed, %d consecutive failures", server, server.getFailures());
+        }
+    }
+
+    public void update(SM_ClientServer.CMsgClientCMList msg) {
+        int n = Math.min(msg.getCmAddressesCount(), msg.getCmPortsCount());
+        if (n == 0) {
+            return;
+        }
+        synchronized (this) {
+            Map<SteamServer, SteamServer> known = new HashMap<>();
+            for (SteamServer server : servers) {
+                known.put(server, server);
+            }
+            servers.clear();
+            for (int i = 0; i < n; i++) {
+                SteamServer server = new SteamServer(msg.getCmAddresses(i), msg.getCmPorts(i));
+                SteamServer previous = known.get(server);
+                if (previous != null) {
+                    server.copyStatsFrom(previous);
+                }
+                servers.add(server);
+            }
+        }
+        log.info("received a list of %d connection managers", n);
+        writeToCache();
+    }
+
+    private SteamServer find(InetSocketAddress address) {
+        for (SteamServer server : servers) {
+            if (server.matches(address)) {
+                return server;
+            }
+        }
+        return null;
+    }
+
+    private void readFromCache() {
+        try {
+            ByteBuffer buf = storage.read(cacheFile);
+            if (buf != null) {
+                SteamServer[] cached = mapper.readValue(Charset.forName("UTF-8").decode(buf).toString(), SteamServer[].class);
+                if (cached.length > 0) {
+                    servers.clear();
+                    Collections.addAll(servers, cached);
+                }
+            }
+        } catch (IOException er) {
+            log.error("reading connection manager list from cache failed", er);
+            try {
+                storage.delete(cacheFile);
+            } catch (IOException ed) {
+                log.error("deleting cached connection manager list failed", ed);
+            }
+        }
+    }
+
+    private void writeToCache() {
+        try {
+            String json;
+            synchronized (this) {
+                json = mapper.writeValueAsString(servers);
+            }
+            storage.write(cacheFile, 0, ByteBuffer.wrap(json.getBytes("UTF-8")), true);
+        } catch (IOException e) {
+            log.error("writing connection manager list to cache failed", e);
+        }
+    }
+
+}
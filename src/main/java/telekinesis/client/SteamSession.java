@@ -0,0 +1,179 @@
+package telekinesis.client;
+
+import io.netty.util.concurrent.EventExecutor;
+import telekinesis.TelekinesisException;
+import telekinesis.connection.ClientMessageContext;
+import telekinesis.model.AppId;
+import telekinesis.util.Publisher.Handler;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Blocking facade over SteamClient for synchronous callers.
+// Only java.util.concurrent primitives are used for waiting, so blocked virtual threads never pin their carrier.
+public class SteamSession implements AutoCloseable {
+
+    private final SteamClient client;
+    private final ReentrantLock stateLock = new ReentrantLock();
+    private final Condition stateChanged = stateLock.newCondition();
+    private final Handler<SteamClient, SteamClientState> stateHandler = this::handleClientState;
+
+    public SteamSession(SteamClient client) {
+        this.client = client;
+        client.subscribe(SteamClientState.class, stateHandler);
+    }
+
+    public SteamClient getClient() {
+        return client;
+    }
+
+    public void awaitState(SteamClientState state) throws InterruptedException {
+        checkNotOnEventLoop();
+        stateLock.lock();
+        try {
+            while (client.getClientState() != state) {
+                stateChanged.await();
+            }
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    public boolean awaitState(SteamClientState state, Duration timeout) throws InterruptedException {
+        checkNotOnEventLoop();
+        long remaining = timeout.toNanos();
+        stateLock.lock();
+        try {
+            while (client.getClientState() != state) {
+                if (remaining <= 0L) {
+                    return false;
+                }
+                remaining = stateChanged.awaitNanos(remaining);
+            }
+            return true;
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    public Object call(Object body, Duration timeout) throws InterruptedException, TimeoutException {
+        return call(AppId.STEAM, body, Object.class, timeout);
+    }
+
+    public <P> P call(Object body, Class<P> replyClass, Duration timeout) throws InterruptedException, TimeoutException {
+        return call(AppId.STEAM, body, replyClass, timeout);
+    }
+
+    public <P> P call(int appId, Object body, Class<P> replyClass, Duration timeout) throws InterruptedException, TimeoutException {
+        checkNotOnEventLoop();
+        CompletableFuture<Object> reply = new CompletableFuture<>();
+        Handler<ClientMessageContext, Object> callback = (ctx, payload) -> reply.complete(payload);
+        client.request(appId, body, callback);
+        Object payload;
+        try {
+            payload = reply.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            throw new TelekinesisException(e.getCause());
+        } catch (InterruptedException | TimeoutException e) {
+            client.cancelRequest(callback);
+            throw e;
+        }
+        if (!replyClass.isInstance(payload)) {
+            throw new TelekinesisException("expected a reply of type %s, got %s", replyClass.getName(), payload.getClass().getName());
+        }
+        return replyClass.cast(payload);
+    }
+
+    public <T> MessageQueue<T> subscribe(Class<T> messageClass, int capacity) {
+        return subscribe(AppId.STEAM, messageClass, capacity);
+    }
+
+    public <T> MessageQueue<T> subscribe(int appId, Class<T> messageClass, int capacity) {
+        MessageQueue<T> queue = new MessageQueue<>(appId, messageClass, capacity);
+        client.subscribeMessage(appId, messageClass, queue.handler);
+        return queue;
+    }
+
+    @Override
+    public void close() {
+        client.unsubscribe(SteamClientState.class, stateHandler);
+    }
+
+    private void handleClientState(SteamClient client, SteamClientState state) {
+        stateLock.lock();
+        try {
+            stateChanged.signalAll();
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    private void checkNotOnEventLoop() {
+        for (EventExecutor executor : client.getWorkerGroup()) {
+            if (executor.inEventLoop()) {
+                throw new IllegalStateException("blocking SteamSession call on a netty event loop");
+            }
+        }
+    }
+
+    // Messages are offered from the event loop, which never waits: when the queue is full, the oldest message is dropped.
+    public class MessageQueue<T> implements AutoCloseable {
+
+        private final int appId;
+        private final Class<T> messageClass;
+        private final BlockingQueue<T> queue;
+        private final AtomicLong dropped = new AtomicLong();
+        private final Handler<ClientMessageContext, T> handler = this::offer;
+
+        private MessageQueue(int appId, Class<T> messageClass, int capacity) {
+            this.appId = appId;
+            this.messageClass = messageClass;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+
+        private void offer(ClientMessageContext ctx, T message) {
+            while (!queue.offer(message)) {
+                if (queue.poll() != null) {
+                    dropped.incrementAndGet();
+                }
+            }
+        }
+
+        public T take() throws InterruptedException {
+            checkNotOnEventLoop();
+            return queue.take();
+        }
+
+        public T poll(Duration timeout) throws InterruptedException {
+            checkNotOnEventLoop();
+            return queue.poll(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        }
+
+        public T poll() {
+            return queue.poll();
+        }
+
+        public int size() {
+            return queue.size();
+        }
+
+        public long getDropped() {
+            return dropped.get();
+        }
+
+        @Override
+        public void close() {
+            client.unsubscribeMessage(appId, messageClass, handler);
+        }
+
+    }
+
+}
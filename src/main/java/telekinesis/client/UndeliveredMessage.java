@@ -0,0 +1,21 @@
+package telekinesis.client;
+
+public class UndeliveredMessage {
+
+    private final int appId;
+    private final Object body;
+
+    public UndeliveredMessage(int appId, Object body) {
+        this.appId = appId;
+        this.body = body;
+    }
+
+    public int getAppId() {
+        return appId;
+    }
+
+    public Object getBody() {
+        return body;
+    }
+
+}
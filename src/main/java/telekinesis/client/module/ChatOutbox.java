@@ -0,0 +1,182 @@
+package telekinesis.client.module;
+
+import telekinesis.client.SteamClient;
+import telekinesis.logger.PrintfLogger;
+import telekinesis.logger.PrintfLoggerFactory;
+import telekinesis.message.proto.generated.steam.SM_ClientServer;
+import telekinesis.model.steam.EChatEntryType;
+import telekinesis.util.CStringUtil;
+import telekinesis.util.TokenBucket;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+// Rate limited chat sending: every recipient has its own ordered queue and token bucket,
+// on top of a global bucket for the account. Queued messages to the same recipient are merged.
+// While the friends module isn't registered, messages are kept and go out once it is.
+public class ChatOutbox {
+
+    private static final PrintfLogger log = PrintfLoggerFactory.getLogger("steam.chat");
+
+    private static final int MAX_MESSAGE_LENGTH = 2048;
+
+    private final SteamFriends friends;
+    private final TokenBucket globalBucket;
+    private final double recipientRate;
+    private final int recipientBurst;
+    private final Map<Long, Recipient> recipients = new HashMap<>();
+    private final Deque<Long> ready = new ArrayDeque<>();
+    // in the order their queues ran empty, their buckets fill up in about the same order
+    private final Deque<Long> idle = new ArrayDeque<>();
+    private ScheduledFuture<?> flushFuture;
+
+    public ChatOutbox(SteamFriends friends) {
+        this(friends, 10.0, 20, 1.0, 5);
+    }
+
+    public ChatOutbox(SteamFriends friends, double globalRate, int globalBurst, double recipientRate, int recipientBurst) {
+        this.friends = friends;
+        this.globalBucket = new TokenBucket(globalRate, globalBurst);
+        this.recipientRate = recipientRate;
+        this.recipientBurst = recipientBurst;
+    }
+
+    public void send(long steamId, String message) {
+        synchronized (this) {
+            Recipient recipient = recipients.get(steamId);
+            if (recipient == null) {
+                recipient = new Recipient(new TokenBucket(recipientRate, recipientBurst));
+                recipients.put(steamId, recipient);
+            }
+            StringBuilder last = recipient.queue.peekLast();
+            if (last != null && last.length() + 1 + message.length() <= MAX_MESSAGE_LENGTH) {
+                last.append('\n').append(message);
+                return;
+            }
+            if (recipient.queue.isEmpty()) {
+                ready.addLast(steamId);
+                recipient.idle = false;
+            }
+            recipient.queue.addLast(new StringBuilder(message));
+            if (flushFuture != null) {
+                return;
+            }
+        }
+        flush();
+    }
+
+    public synchronized int getQueuedMessages() {
+        int n = 0;
+        for (Recipient recipient : recipients.values()) {
+            n += recipient.queue.size();
+        }
+        return n;
+    }
+
+    // called by the friends module once it is registered
+    void start() {
+        flush();
+    }
+
+    // called by the friends module when it is unregistered, queued messages stay for the next start
+    synchronized void stop() {
+        if (flushFuture != null) {
+            flushFuture.cancel(false);
+            flushFuture = null;
+        }
+    }
+
+    private void flush() {
+        List<SM_ClientServer.CMsgClientFriendMsg.Builder> batch = new ArrayList<>();
+        SteamClient steamClient = friends.getSteamClient();
+        synchronized (this) {
+            flushFuture = null;
+            if (steamClient == null) {
+                return;
+            }
+            long now = System.nanoTime();
+            boolean progress = true;
+            while (progress && !ready.isEmpty() && globalBucket.canAcquire(now)) {
+                progress = false;
+                // one message per recipient and round, so a busy recipient can't starve the others
+                for (int n = ready.size(); n > 0 && globalBucket.canAcquire(now); n--) {
+                    long steamId = ready.pollFirst();
+                    Recipient recipient = recipients.get(steamId);
+                    if (recipient.bucket.tryAcquire(now)) {
+                        globalBucket.tryAcquire(now);
+                        batch.add(buildMessage(steamId, recipient.queue.pollFirst().toString()));
+                        progress = true;
+                    }
+                    if (!recipient.queue.isEmpty()) {
+                        ready.addLast(steamId);
+                    } else {
+                        recipient.idle = true;
+                        idle.addLast(steamId);
+                    }
+                }
+            }
+            pruneIdleRecipients(now);
+            if (!ready.isEmpty()) {
+                long delay = globalBucket.nanosUntilAvailable(now);
+                long earliestRecipient = Long.MAX_VALUE;
+                for (long steamId : ready) {
+                    earliestRecipient = Math.min(earliestRecipient, recipients.get(steamId).bucket.nanosUntilAvailable(now));
+                }
+                delay = Math.max(delay, earliestRecipient);
+                flushFuture = steamClient.getConnection().getEventLoop().schedule(this::flush, delay, TimeUnit.NANOSECONDS);
+            }
+            // handed over before the lock is released, so batches reach the connection in the order they were taken,
+            // the connection only queues them and never blocks here
+            if (!batch.isEmpty()) {
+                steamClient.sendBatch(batch);
+            }
+        }
+    }
+
+    // only looks at the front of the idle recipients, a recipient whose bucket isn't full yet ends the round
+    private void pruneIdleRecipients(long now) {
+        while (!idle.isEmpty()) {
+            long steamId = idle.peekFirst();
+            Recipient recipient = recipients.get(steamId);
+            if (recipient != null && recipient.idle) {
+                if (!recipient.bucket.isFull(now)) {
+                    return;
+                }
+                recipients.remove(steamId);
+            }
+            idle.pollFirst();
+        }
+    }
+
+    private SM_ClientServer.CMsgClientFriendMsg.Builder buildMessage(long steamId, String message) {
+        SM_ClientServer.CMsgClientFriendMsg.Builder builder = SM_ClientServer.CMsgClientFriendMsg.newBuilder();
+        builder.setSteamid(steamId);
+        builder.setChatEntryType(EChatEntryType.ChatMsg.v());
+        try {
+            builder.setMessage(CStringUtil.encodeUtf8(message));
+        } catch (IOException e) {
+            log.error("unable to encode chat message to %d", steamId, e);
+        }
+        builder.setRtime32ServerTimestamp((int) Instant.now().getEpochSecond());
+        return builder;
+    }
+
+    private static class Recipient {
+        private final TokenBucket bucket;
+        private final Deque<StringBuilder> queue = new ArrayDeque<>();
+        private boolean idle;
+
+        private Recipient(TokenBucket bucket) {
+            this.bucket = bucket;
+        }
+    }
+
+}
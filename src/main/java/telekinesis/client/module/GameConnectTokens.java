@@ -1,6 +1,9 @@
 package telekinesis.client.module;
 
 import com.google.protobuf.ByteString;
+import io.netty.util.concurrent.EventExecutor;
+import telekinesis.TelekinesisException;
+import telekinesis.client.SteamClient;
 import telekinesis.client.SteamClientModule;
 import telekinesis.connection.ClientMessageContext;
 import telekinesis.message.ClientMessageTypeRegistry;
@@ -9,22 +12,39 @@ import telekinesis.message.proto.generated.steam.SM_ClientServer;
 import telekinesis.model.steam.EMsg;
 import telekinesis.util.MessageDispatcher;
 
-import java.util.Deque;
-import java.util.LinkedList;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
-public class GameConnectTokens extends SteamClientModule {
+public class GameConnectTokens extends SteamClientModule<GameConnectTokens> {
 
     private static final SimpleClientMessageTypeRegistry HANDLED_MESSAGES = new SimpleClientMessageTypeRegistry()
             .registerProto(EMsg.ClientGameConnectTokens.v(), SM_ClientServer.CMsgClientGameConnectTokens.class);
 
     private final MessageDispatcher selfHandledMessageDispatcher;
-    private final Deque<ByteString> tokens;
+
+    // oldest token first, tokens are handed out and trimmed from the head
+    private final ConcurrentLinkedDeque<ByteString> tokens = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger available = new AtomicInteger();
+    private final ConcurrentLinkedDeque<CompletableFuture<ByteString>> waiters = new ConcurrentLinkedDeque<>();
+    private final AtomicBoolean lowSignaled = new AtomicBoolean();
+    private volatile int maxTokens = 10;
+    private volatile int lowWatermark = 2;
+
+    private final LongAdder received = new LongAdder();
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder discarded = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
 
     public GameConnectTokens() {
         selfHandledMessageDispatcher = new MessageDispatcher();
         selfHandledMessageDispatcher.subscribe(SM_ClientServer.CMsgClientGameConnectTokens.class, this::handleClientGameConnectTokens);
-
-        tokens = new LinkedList<>();
     }
 
     @Override
@@ -38,19 +58,203 @@ public class GameConnectTokens extends SteamClientModule {
     }
 
     private void handleClientGameConnectTokens(ClientMessageContext clientMessageContext, SM_ClientServer.CMsgClientGameConnectTokens msg) {
-        msg.getTokensList().forEach(tokens::offer);
-        while (tokens.size() > msg.getMaxTokensToKeep()) {
-            tokens.removeFirst();
+        if (msg.hasMaxTokensToKeep()) {
+            maxTokens = msg.getMaxTokensToKeep();
+        }
+        msg.getTokensList().forEach(this::offer);
+    }
+
+    public void offer(ByteString token) {
+        received.increment();
+        tokens.offerLast(token);
+        available.incrementAndGet();
+        while (available.get() > maxTokens) {
+            if (pollToken() != null) {
+                discarded.increment();
+            }
+        }
+        if (available.get() > lowWatermark) {
+            lowSignaled.set(false);
         }
+        dispatch();
+    }
+
+    // null if no token is available right now
+    public ByteString tryAcquire() {
+        ByteString token = pollToken();
+        if (token != null) {
+            acquired.increment();
+        }
+        checkLowWatermark();
+        return token;
     }
 
     public ByteString retrieveToken() {
-        return tokens.removeFirst();
+        ByteString token = tryAcquire();
+        if (token == null) {
+            throw new NoSuchElementException();
+        }
+        return token;
+    }
+
+    public ByteString acquire(long timeout, TimeUnit unit) throws InterruptedException, TimeoutException {
+        ByteString token = tryAcquire();
+        if (token != null) {
+            return token;
+        }
+        checkNotOnEventLoop();
+        CompletableFuture<ByteString> waiter = enqueueWaiter();
+        try {
+            return waiter.get(timeout, unit);
+        } catch (TimeoutException e) {
+            if (waiter.completeExceptionally(e)) {
+                waiters.remove(waiter);
+                timeouts.increment();
+                throw e;
+            }
+            return waiter.join();
+        } catch (InterruptedException e) {
+            if (!waiter.cancel(false)) {
+                // the token arrived while we were interrupted, don't lose it
+                returnToken(waiter.join());
+            }
+            waiters.remove(waiter);
+            throw e;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    // completes exceptionally with a TimeoutException if no token arrives in time
+    public CompletableFuture<ByteString> acquireAsync(long timeout, TimeUnit unit) {
+        ByteString token = tryAcquire();
+        if (token != null) {
+            return CompletableFuture.completedFuture(token);
+        }
+        SteamClient client = steamClient;
+        if (client == null) {
+            CompletableFuture<ByteString> failed = new CompletableFuture<>();
+            failed.completeExceptionally(new TelekinesisException("GameConnectTokens is not registered with a client"));
+            return failed;
+        }
+        CompletableFuture<ByteString> waiter = enqueueWaiter();
+        client.getConnection().getEventLoop().schedule(() -> {
+            if (waiter.completeExceptionally(new TimeoutException())) {
+                waiters.remove(waiter);
+                timeouts.increment();
+            }
+        }, timeout, unit);
+        return waiter;
+    }
+
+    // tokens arrive on the event loop, waiting for one there can only time out
+    private void checkNotOnEventLoop() {
+        SteamClient client = steamClient;
+        if (client == null) {
+            return;
+        }
+        for (EventExecutor executor : client.getWorkerGroup()) {
+            if (executor.inEventLoop()) {
+                throw new IllegalStateException("blocking token acquire on a netty event loop");
+            }
+        }
     }
 
     public int getNumTokensLeft() {
-        return tokens.size();
+        return available.get();
     }
 
+    public int getNumWaiters() {
+        return waiters.size();
+    }
+
+    public int getMaxTokens() {
+        return maxTokens;
+    }
+
+    public int getLowWatermark() {
+        return lowWatermark;
+    }
+
+    public void setLowWatermark(int lowWatermark) {
+        this.lowWatermark = lowWatermark;
+    }
+
+    public long getTokensReceived() {
+        return received.sum();
+    }
+
+    public long getTokensAcquired() {
+        return acquired.sum();
+    }
+
+    public long getTokensDiscarded() {
+        return discarded.sum();
+    }
+
+    public long getAcquireTimeouts() {
+        return timeouts.sum();
+    }
+
+    private CompletableFuture<ByteString> enqueueWaiter() {
+        CompletableFuture<ByteString> waiter = new CompletableFuture<>();
+        waiters.offerLast(waiter);
+        // a token may have arrived between the failed poll and the enqueue
+        dispatch();
+        return waiter;
+    }
+
+    // pairs waiters with tokens; every side that gives an element back re-checks the other side,
+    // so concurrent dispatchers can't both back off while a pair is still possible
+    private void dispatch() {
+        while (!waiters.isEmpty() && !tokens.isEmpty()) {
+            CompletableFuture<ByteString> waiter = waiters.pollFirst();
+            if (waiter == null) {
+                continue;
+            }
+            if (waiter.isDone()) {
+                continue;
+            }
+            ByteString token = pollToken();
+            if (token == null) {
+                waiters.offerFirst(waiter);
+                continue;
+            }
+            if (waiter.complete(token)) {
+                acquired.increment();
+            } else {
+                returnToken(token);
+            }
+        }
+        checkLowWatermark();
+    }
+
+    private ByteString pollToken() {
+        ByteString token = tokens.pollFirst();
+        if (token != null) {
+            available.decrementAndGet();
+        }
+        return token;
+    }
+
+    private void returnToken(ByteString token) {
+        tokens.offerFirst(token);
+        available.incrementAndGet();
+        dispatch();
+    }
+
+    // tokens are taken on any thread, but like all client events the warning is published on the event loop
+    private void checkLowWatermark() {
+        int left = available.get();
+        if (left <= lowWatermark && lowSignaled.compareAndSet(false, true)) {
+            GameConnectTokensLow event = new GameConnectTokensLow(left, lowWatermark, waiters.size());
+            SteamClient client = steamClient;
+            if (client != null) {
+                client.getConnection().execute(() -> publish(this, event));
+            } else {
+                publish(this, event);
+            }
+        }
+    }
 
 }
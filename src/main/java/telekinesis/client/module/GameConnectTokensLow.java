@@ -0,0 +1,29 @@
+package telekinesis.client.module;
+
+// Published once when the token supply drops to the low watermark, and again only after it has
+// been refilled above it. A good moment to send CMsgClientGamesPlayed to get fresh tokens.
+public class GameConnectTokensLow {
+
+    private final int tokensLeft;
+    private final int lowWatermark;
+    private final int waiters;
+
+    GameConnectTokensLow(int tokensLeft, int lowWatermark, int waiters) {
+        this.tokensLeft = tokensLeft;
+        this.lowWatermark = lowWatermark;
+        this.waiters = waiters;
+    }
+
+    public int getTokensLeft() {
+        return tokensLeft;
+    }
+
+    public int getLowWatermark() {
+        return lowWatermark;
+    }
+
+    public int getWaiters() {
+        return waiters;
+    }
+
+}
@@ -0,0 +1,350 @@
+package telekinesis.client.module;
+
+import telekinesis.TelekinesisException;
+import telekinesis.client.SteamClient;
+import telekinesis.client.SteamClientModule;
+import telekinesis.client.SteamClientState;
+import telekinesis.connection.ClientMessageContext;
+import telekinesis.logger.PrintfLogger;
+import telekinesis.logger.PrintfLoggerFactory;
+import telekinesis.message.ClientMessageTypeRegistry;
+import telekinesis.message.GCMessageTypeRegistry;
+import telekinesis.util.MessageDispatcher;
+import telekinesis.util.Publisher.Handler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Base class for talking to the game coordinator of one app. Takes care of the hello/welcome
+// handshake, GC job ids and timeouts. Messages of the app bypass the generic dispatch of the
+// client and are handled on the module's own executor, one app never holds up another.
+// Messages that aren't job replies are passed on to the app's subscribers and streams of the client from there.
+// The GC only answers the hello while the app is played, see SteamClient.startPlaying.
+public abstract class GameCoordinatorModule<C extends GameCoordinatorModule<C>> extends SteamClientModule<C> {
+
+    private static final PrintfLogger log = PrintfLoggerFactory.getLogger("steam.gc");
+
+    protected final GCMessageTypeRegistry registry;
+    private final MessageDispatcher dispatcher;
+    private final Handler<SteamClient, SteamClientState> clientStateHandler = this::handleClientState;
+
+    private final Map<Long, PendingJob<?>> jobs = new ConcurrentHashMap<>();
+    // state changes are recorded under the monitor and published after it is released
+    private final Queue<GameCoordinatorState> unpublishedStates = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean publishingStates = new AtomicBoolean();
+    private final AtomicLong nextJobId = new AtomicLong();
+
+    private Executor dispatchExecutor;
+    private long helloBaseDelayMillis = 1000L;
+    private long helloMaxDelayMillis = 30000L;
+    private long jobTimeoutMillis = 10000L;
+
+    private GameCoordinatorState state = GameCoordinatorState.IDLE;
+    private boolean started;
+    private int helloAttempts;
+    private ScheduledFuture<?> helloFuture;
+
+    protected GameCoordinatorModule(int appId) {
+        super(appId);
+        this.registry = new GCMessageTypeRegistry(appId);
+        this.dispatcher = new MessageDispatcher(appId);
+    }
+
+    protected abstract C self();
+
+    protected abstract Object createHello();
+
+    protected abstract Class<?> getWelcomeClass();
+
+    protected void onWelcome(Object welcome) {
+    }
+
+    @Override
+    public ClientMessageTypeRegistry getHandledMessages() {
+        return registry;
+    }
+
+    @Override
+    public void setSteamClient(SteamClient steamClient) {
+        if (this.steamClient != null) {
+            this.steamClient.unsubscribe(SteamClientState.class, clientStateHandler);
+            this.steamClient.getConnection().setAppMessageHandler(appId, null);
+            synchronized (this) {
+                resetSession("module unregistered");
+            }
+            publishStateChanges();
+        }
+        super.setSteamClient(steamClient);
+        if (steamClient != null) {
+            steamClient.subscribe(SteamClientState.class, clientStateHandler);
+            steamClient.getConnection().setAppMessageHandler(appId, this::handleSessionMessage);
+            if (dispatchExecutor == null) {
+                dispatchExecutor = steamClient.getWorkerGroup().next();
+            }
+        }
+    }
+
+    public void setDispatchExecutor(Executor dispatchExecutor) {
+        this.dispatchExecutor = dispatchExecutor;
+    }
+
+    public synchronized void setHelloBaseDelayMillis(long helloBaseDelayMillis) {
+        this.helloBaseDelayMillis = helloBaseDelayMillis;
+    }
+
+    public synchronized void setHelloMaxDelayMillis(long helloMaxDelayMillis) {
+        this.helloMaxDelayMillis = helloMaxDelayMillis;
+    }
+
+    public void setJobTimeoutMillis(long jobTimeoutMillis) {
+        this.jobTimeoutMillis = jobTimeoutMillis;
+    }
+
+    public synchronized GameCoordinatorState getGameCoordinatorState() {
+        return state;
+    }
+
+    public synchronized int getHelloAttempts() {
+        return helloAttempts;
+    }
+
+    public int getPendingJobs() {
+        return jobs.size();
+    }
+
+    public void start() {
+        synchronized (this) {
+            started = true;
+            if (state == GameCoordinatorState.IDLE && steamClient != null && steamClient.getClientState() == SteamClientState.LOGGED_ON) {
+                beginHello();
+            }
+        }
+        publishStateChanges();
+    }
+
+    public void stop() {
+        synchronized (this) {
+            started = false;
+            resetSession("stopped");
+        }
+        publishStateChanges();
+    }
+
+    public <E> void subscribeMessage(Class<E> messageClass, Handler<ClientMessageContext, E> handler) {
+        dispatcher.subscribe(messageClass, handler);
+    }
+
+    public <E> void unsubscribeMessage(Class<E> messageClass, Handler<ClientMessageContext, E> handler) {
+        dispatcher.unsubscribe(messageClass, handler);
+    }
+
+    public void send(Object body) {
+        steamClient.send(appId, body);
+    }
+
+    public <P> CompletableFuture<P> request(Object body, Class<P> responseClass) {
+        return request(body, responseClass, jobTimeoutMillis);
+    }
+
+    public <P> CompletableFuture<P> request(Object body, Class<P> responseClass, long timeoutMillis) {
+        PendingJob<P> job = new PendingJob<>(nextJobId.incrementAndGet(), responseClass);
+        synchronized (this) {
+            if (state != GameCoordinatorState.WELCOMED) {
+                job.future.completeExceptionally(new TelekinesisException("no game coordinator session for app %d", appId));
+                return job.future;
+            }
+            jobs.put(job.jobId, job);
+        }
+        job.timeout = steamClient.getConnection().getEventLoop().schedule(() -> {
+            if (jobs.remove(job.jobId, job)) {
+                job.future.completeExceptionally(new TimeoutException(String.format("GC job %d for app %d timed out", job.jobId, appId)));
+            }
+        }, timeoutMillis, TimeUnit.MILLISECONDS);
+        steamClient.getConnection().send(appId, job.jobId, -1L, body);
+        return job.future;
+    }
+
+    // messages of the app never reach the generic dispatch, see handleSessionMessage
+    @Override
+    public void handleClientMessage(ClientMessageContext ctx, Object message) {
+    }
+
+    private void handleSessionMessage(ClientMessageContext ctx, Object message) {
+        if (ctx.getAppId() != appId) {
+            return;
+        }
+        if (ctx.getTargetJobId() != -1L) {
+            PendingJob<?> job = jobs.remove(ctx.getTargetJobId());
+            if (job != null) {
+                dispatchExecutor.execute(() -> job.complete(message));
+                return;
+            }
+        }
+        dispatchExecutor.execute(() -> dispatch(ctx, message));
+    }
+
+    private void dispatch(ClientMessageContext ctx, Object message) {
+        try {
+            if (getWelcomeClass().isInstance(message)) {
+                welcomed(message);
+            }
+            dispatcher.handleClientMessage(ctx, message);
+            SteamClient client = steamClient;
+            if (client != null) {
+                client.publishAppMessage(ctx, message);
+            }
+        } catch (Exception e) {
+            log.error("error handling GC message %s for app %d", message.getClass().getSimpleName(), appId, e);
+        }
+    }
+
+    // to be called by subclasses when the GC reports it went away, starts over with the hello
+    protected void sessionLost() {
+        synchronized (this) {
+            failJobs(new TelekinesisException("game coordinator session for app %d lost", appId));
+            if (started && steamClient != null && steamClient.getClientState() == SteamClientState.LOGGED_ON) {
+                beginHello();
+            } else {
+                resetSession("session lost");
+            }
+        }
+        publishStateChanges();
+    }
+
+    private void handleClientState(SteamClient client, SteamClientState clientState) {
+        synchronized (this) {
+            if (clientState == SteamClientState.LOGGED_ON) {
+                if (started && state == GameCoordinatorState.IDLE) {
+                    beginHello();
+                }
+            } else {
+                resetSession("steam session " + clientState);
+            }
+        }
+        publishStateChanges();
+    }
+
+    private void beginHello() {
+        cancelHello();
+        helloAttempts = 0;
+        changeState(GameCoordinatorState.HELLO);
+        sendHello();
+    }
+
+    private synchronized void sendHello() {
+        helloFuture = null;
+        if (state != GameCoordinatorState.HELLO) {
+            return;
+        }
+        helloAttempts++;
+        log.debug("sending hello %d to GC for app %d", helloAttempts, appId);
+        steamClient.send(appId, createHello());
+        long delay = Math.min(helloMaxDelayMillis, helloBaseDelayMillis << Math.min(helloAttempts - 1, 16));
+        delay = delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+        helloFuture = steamClient.getConnection().getEventLoop().schedule(this::sendHello, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void welcomed(Object welcome) {
+        synchronized (this) {
+            cancelHello();
+            log.info("GC for app %d welcomed us after %d hellos", appId, helloAttempts);
+            helloAttempts = 0;
+            changeState(GameCoordinatorState.WELCOMED);
+        }
+        publishStateChanges();
+        onWelcome(welcome);
+    }
+
+    private void resetSession(String reason) {
+        cancelHello();
+        if (state != GameCoordinatorState.IDLE) {
+            failJobs(new TelekinesisException("game coordinator session for app %d closed: %s", appId, reason));
+        }
+        changeState(GameCoordinatorState.IDLE);
+    }
+
+    private void cancelHello() {
+        if (helloFuture != null) {
+            helloFuture.cancel(false);
+            helloFuture = null;
+        }
+    }
+
+    private void failJobs(Exception cause) {
+        List<PendingJob<?>> failed = new ArrayList<>(jobs.values());
+        jobs.clear();
+        for (PendingJob<?> job : failed) {
+            job.fail(cause);
+        }
+    }
+
+    private void changeState(GameCoordinatorState newState) {
+        if (state == newState) {
+            return;
+        }
+        log.debug("GC state for app %d is now %s", appId, newState);
+        state = newState;
+        unpublishedStates.add(newState);
+    }
+
+    // called without the monitor held. One thread publishes at a time, in the order the states changed,
+    // a subscriber that changes the state again has its change published by the same loop
+    private void publishStateChanges() {
+        while (!unpublishedStates.isEmpty() && publishingStates.compareAndSet(false, true)) {
+            try {
+                GameCoordinatorState published;
+                while ((published = unpublishedStates.poll()) != null) {
+                    publish(self(), published);
+                }
+            } finally {
+                publishingStates.set(false);
+            }
+        }
+    }
+
+    private static class PendingJob<P> {
+        private final long jobId;
+        private final Class<P> responseClass;
+        private final CompletableFuture<P> future = new CompletableFuture<>();
+        private volatile ScheduledFuture<?> timeout;
+
+        private PendingJob(long jobId, Class<P> responseClass) {
+            this.jobId = jobId;
+            this.responseClass = responseClass;
+        }
+
+        private void complete(Object message) {
+            cancelTimeout();
+            if (responseClass.isInstance(message)) {
+                future.complete(responseClass.cast(message));
+            } else {
+                future.completeExceptionally(new TelekinesisException("unexpected %s in response to GC job %d", message.getClass().getSimpleName(), jobId));
+            }
+        }
+
+        private void fail(Exception cause) {
+            cancelTimeout();
+            future.completeExceptionally(cause);
+        }
+
+        private void cancelTimeout() {
+            ScheduledFuture<?> t = timeout;
+            if (t != null) {
+                t.cancel(false);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,7 @@
+package telekinesis.client.module;
+
+public enum GameCoordinatorState {
+    IDLE,
+    HELLO,
+    WELCOMED
+}
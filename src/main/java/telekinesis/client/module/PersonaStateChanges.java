@@ -0,0 +1,33 @@
+package telekinesis.client.module;
+
+import telekinesis.model.steam.EClientPersonaStateFlag;
+
+// All persona changes seen within one coalescing window, at most one entry per steam id.
+// Changed fields are given as a mask of EClientPersonaStateFlag values.
+public class PersonaStateChanges {
+
+    private final long[] steamIds;
+    private final int[] changedFlags;
+
+    PersonaStateChanges(long[] steamIds, int[] changedFlags) {
+        this.steamIds = steamIds;
+        this.changedFlags = changedFlags;
+    }
+
+    public int size() {
+        return steamIds.length;
+    }
+
+    public long getSteamId(int index) {
+        return steamIds[index];
+    }
+
+    public int getChangedFlags(int index) {
+        return changedFlags[index];
+    }
+
+    public boolean hasChanged(int index, EClientPersonaStateFlag flag) {
+        return (changedFlags[index] & flag.v()) != 0;
+    }
+
+}
@@ -1,20 +1,39 @@
 package telekinesis.client.module;
 
+import telekinesis.TelekinesisException;
+import telekinesis.client.SteamClient;
 import telekinesis.client.SteamClientModule;
 import telekinesis.connection.ClientMessageContext;
 import telekinesis.message.ClientMessageTypeRegistry;
 import telekinesis.message.SimpleClientMessageTypeRegistry;
 import telekinesis.message.proto.generated.steam.SM_ClientServer;
 import telekinesis.model.steam.EChatEntryType;
+import telekinesis.model.steam.EClientPersonaStateFlag;
+import telekinesis.model.steam.EFriendRelationship;
 import telekinesis.model.steam.EMsg;
 import telekinesis.model.steam.EPersonaState;
 import telekinesis.util.CStringUtil;
+import telekinesis.util.LongIntTable;
 import telekinesis.util.MessageDispatcher;
+import telekinesis.util.NamePool;
 
 import java.io.IOException;
-import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.LongConsumer;
 
-public class SteamFriends extends SteamClientModule {
+public class SteamFriends extends SteamClientModule<SteamFriends> {
 
     private static final SimpleClientMessageTypeRegistry HANDLED_MESSAGES = new SimpleClientMessageTypeRegistry()
             .registerProto(EMsg.ClientChangeStatus.v(), SM_ClientServer.CMsgClientChangeStatus.class)
@@ -24,11 +43,55 @@ public class SteamFriends extends SteamClientModule {
             .registerProto(EMsg.ClientPlayerNicknameList.v(), SM_ClientServer.CMsgClientPlayerNicknameList.class)
             .registerProto(EMsg.ClientFriendMsgIncoming.v(), SM_ClientServer.CMsgClientFriendMsgIncoming.class)
             .registerProto(EMsg.ClientFriendMsg.v(), SM_ClientServer.CMsgClientFriendMsg.class)
-            .registerProto(EMsg.ClientUDSInviteToGame.v(), SM_ClientServer.CMsgClientUDSInviteToGame.class);
+            .registerProto(EMsg.ClientUDSInviteToGame.v(), SM_ClientServer.CMsgClientUDSInviteToGame.class)
+            .registerProto(EMsg.ClientRequestFriendData.v(), SM_ClientServer.CMsgClientRequestFriendData.class);
+
+    private static final int COL_RELATIONSHIP = 0;
+    private static final int COL_PERSONA_STATE = 1;
+    private static final int COL_PLAYING_APP = 2;
+    private static final int COL_NAME = 3;
+    private static final int COL_NICKNAME = 4;
+    private static final int COL_PERSONA_STATE_FLAGS = 5;
+    private static final int COL_LAST_UPDATE = 6;
+    // the persona flags the row was filled with since it was last fresh
+    private static final int COL_CACHED_FLAGS = 7;
+    private static final int NUM_COLUMNS = 8;
+
+    private static final int MAX_PERSONA_REQUEST_BATCH = 100;
 
     private final MessageDispatcher selfHandledMessageDispatcher;
+    private final boolean offHeap;
+    private LongIntTable friends;
+    private final NamePool names;
+    private final LongIntTable pendingChanges;
+    private long changeCoalescingMillis = 100L;
+    private ScheduledFuture<?> changeFlushFuture;
+
+    private final long createdNanos = System.nanoTime();
+    private final Map<Long, PersonaRequest> personaRequests = new HashMap<>();
+    private final Set<Long> unsentPersonaRequests = new LinkedHashSet<>();
+    private long personaRequestBatchMillis = 20L;
+    private long personaRequestTimeoutMillis = 30000L;
+    private long personaCacheSeconds = 60L;
+    private ScheduledFuture<?> personaRequestFlushFuture;
+    private ScheduledFuture<?> personaEvictionFuture;
+
+    private ChatOutbox chatOutbox = new ChatOutbox(this);
 
     public SteamFriends() {
+        this(false);
+    }
+
+    public SteamFriends(boolean offHeap) {
+        this(offHeap, NamePool.SHARED);
+    }
+
+    public SteamFriends(boolean offHeap, NamePool names) {
+        this.offHeap = offHeap;
+        this.friends = new LongIntTable(NUM_COLUMNS, 256, offHeap);
+        this.names = names;
+        this.pendingChanges = new LongIntTable(1, 256, false);
+
         selfHandledMessageDispatcher = new MessageDispatcher();
         selfHandledMessageDispatcher.subscribe(SM_ClientServer.CMsgPersonaChangeResponse.class, this::handleClientPersonaChangeResponse);
         selfHandledMessageDispatcher.subscribe(SM_ClientServer.CMsgClientPersonaState.class, this::handleClientPersonaState);
@@ -45,18 +108,406 @@ public class SteamFriends extends SteamClientModule {
         return HANDLED_MESSAGES;
     }
 
+    @Override
+    public void setSteamClient(SteamClient steamClient) {
+        List<CompletableFuture<Void>> abandoned = new ArrayList<>();
+        if (this.steamClient != null) {
+            chatOutbox.stop();
+        }
+        synchronized (this) {
+            if (this.steamClient != null) {
+                releaseFriends(abandoned);
+            }
+            super.setSteamClient(steamClient);
+            if (steamClient != null) {
+                if (offHeap && !friends.isDirect()) {
+                    friends = new LongIntTable(NUM_COLUMNS, 256, true);
+                }
+                long evictionSeconds = Math.max(1L, personaCacheSeconds);
+                personaEvictionFuture = steamClient.getConnection().getEventLoop().scheduleWithFixedDelay(
+                        this::evictStalePersonas, evictionSeconds, evictionSeconds, TimeUnit.SECONDS);
+                // requests made before the module was registered go out now
+                schedulePersonaRequestFlush();
+            }
+        }
+        for (CompletableFuture<Void> future : abandoned) {
+            future.completeExceptionally(new TelekinesisException("persona request abandoned, module was unregistered"));
+        }
+        if (steamClient != null) {
+            chatOutbox.start();
+        }
+    }
+
+    // gives back the names and the off heap rows, what stays behind is an empty heap table.
+    // Pending persona requests are dropped, their futures are collected into abandoned
+    private void releaseFriends(List<CompletableFuture<Void>> abandoned) {
+        if (personaEvictionFuture != null) {
+            personaEvictionFuture.cancel(false);
+            personaEvictionFuture = null;
+        }
+        if (personaRequestFlushFuture != null) {
+            personaRequestFlushFuture.cancel(false);
+            personaRequestFlushFuture = null;
+        }
+        if (changeFlushFuture != null) {
+            changeFlushFuture.cancel(false);
+            changeFlushFuture = null;
+        }
+        for (PersonaRequest request : personaRequests.values()) {
+            abandoned.addAll(request.waiters.values());
+        }
+        personaRequests.clear();
+        unsentPersonaRequests.clear();
+        friends.forEachKey(this::releaseNames);
+        friends.release();
+        friends = new LongIntTable(NUM_COLUMNS, 0, false);
+        pendingChanges.clear();
+    }
+
+    private void releaseNames(long steamId) {
+        names.release(friends.get(steamId, COL_NAME, 0));
+        names.release(friends.get(steamId, COL_NICKNAME, 0));
+    }
+
+    // rows of people that aren't friends are only kept while their persona state is fresh,
+    // a later request fetches them again anyway
+    private synchronized void evictStalePersonas() {
+        int now = clockSeconds();
+        int none = EFriendRelationship.None.v();
+        long[][] stale = {new long[16]};
+        int[] n = new int[1];
+        // collected first, removing shifts rows the iteration hasn't reached yet
+        friends.forEachKey(steamId -> {
+            if (friends.get(steamId, COL_RELATIONSHIP, none) == none
+                    && friends.get(steamId, COL_NICKNAME, 0) == 0
+                    && now - friends.get(steamId, COL_LAST_UPDATE, 0) >= personaCacheSeconds
+                    && !personaRequests.containsKey(steamId)
+                    && !pendingChanges.containsKey(steamId)) {
+                if (n[0] == stale[0].length) {
+                    stale[0] = Arrays.copyOf(stale[0], n[0] << 1);
+                }
+                stale[0][n[0]++] = steamId;
+            }
+        });
+        for (int i = 0; i < n[0]; i++) {
+            releaseNames(stale[0][i]);
+            friends.remove(stale[0][i]);
+        }
+    }
+
     @Override
     public void handleClientMessage(ClientMessageContext ctx, Object message) {
         selfHandledMessageDispatcher.handleClientMessage(ctx, message);
     }
 
     public void handleClientPersonaState(ClientMessageContext ctx, SM_ClientServer.CMsgClientPersonaState msg) {
+        List<CompletableFuture<Void>> answered = new ArrayList<>();
+        try {
+            updatePersonaState(msg, answered);
+        } finally {
+            for (CompletableFuture<Void> future : answered) {
+                future.complete(null);
+            }
+        }
+    }
+
+    private void updatePersonaState(SM_ClientServer.CMsgClientPersonaState msg, List<CompletableFuture<Void>> answered) {
+        synchronized (this) {
+            int now = clockSeconds();
+            for (SM_ClientServer.CMsgClientPersonaState.Friend friend : msg.getFriendsList()) {
+                long steamId = friend.getFriendid();
+                if (steamId == 0L) {
+                    continue;
+                }
+                PersonaRequest request = personaRequests.get(steamId);
+                int covered = request != null ? answerPersonaRequest(steamId, request, answered) : 0;
+                boolean known = friends.containsKey(steamId);
+                int lastUpdate = friends.get(steamId, COL_LAST_UPDATE, 0);
+                int cachedFlags = lastUpdate != 0 && now - lastUpdate < personaCacheSeconds ? friends.get(steamId, COL_CACHED_FLAGS, 0) : 0;
+                friends.put(steamId, COL_CACHED_FLAGS, cachedFlags | covered);
+                friends.put(steamId, COL_LAST_UPDATE, now);
+                int changed = 0;
+                // persona state is stored off by one, 0 means we never heard about it
+                if (friend.hasPersonaState() && update(steamId, COL_PERSONA_STATE, friend.getPersonaState() + 1, known)) {
+                    changed |= EClientPersonaStateFlag.Status.v();
+                }
+                if (friend.hasPersonaStateFlags() && update(steamId, COL_PERSONA_STATE_FLAGS, friend.getPersonaStateFlags(), known)) {
+                    changed |= EClientPersonaStateFlag.Status.v();
+                }
+                if (friend.hasGamePlayedAppId() && update(steamId, COL_PLAYING_APP, friend.getGamePlayedAppId(), known)) {
+                    changed |= EClientPersonaStateFlag.Presence.v();
+                }
+                if (friend.hasPlayerName() && updateName(steamId, COL_NAME, friend.getPlayerName(), known)) {
+                    changed |= EClientPersonaStateFlag.PlayerName.v();
+                }
+                if (changed != 0) {
+                    pendingChanges.put(steamId, 0, pendingChanges.get(steamId, 0, 0) | changed);
+                }
+            }
+            if (pendingChanges.size() == 0 || changeFlushFuture != null) {
+                return;
+            }
+            if (changeCoalescingMillis > 0L && steamClient != null) {
+                changeFlushFuture = steamClient.getConnection().getEventLoop().schedule(this::flushPersonaStateChanges, changeCoalescingMillis, TimeUnit.MILLISECONDS);
+                return;
+            }
+        }
+        flushPersonaStateChanges();
+    }
+
+    private boolean update(long steamId, int column, int value, boolean known) {
+        return friends.put(steamId, column, value) != value || !known;
+    }
+
+    // a row holds one reference to each of its names, the name it had before is given back
+    private boolean updateName(long steamId, int column, String name, boolean known) {
+        int id = names.intern(name);
+        int previous = friends.put(steamId, column, id);
+        names.release(previous);
+        return previous != id || !known;
+    }
+
+    private void flushPersonaStateChanges() {
+        PersonaStateChanges changes;
+        synchronized (this) {
+            changeFlushFuture = null;
+            int n = pendingChanges.size();
+            if (n == 0) {
+                return;
+            }
+            long[] steamIds = new long[n];
+            int[] changedFlags = new int[n];
+            int[] i = new int[1];
+            pendingChanges.forEachKey(steamId -> {
+                steamIds[i[0]] = steamId;
+                changedFlags[i[0]] = pendingChanges.get(steamId, 0, 0);
+                i[0]++;
+            });
+            pendingChanges.clear();
+            changes = new PersonaStateChanges(steamIds, changedFlags);
+        }
+        publish(this, changes);
+    }
+
+    public synchronized void setChangeCoalescingMillis(long changeCoalescingMillis) {
+        this.changeCoalescingMillis = changeCoalescingMillis;
+    }
+
+    public CompletableFuture<Void> requestPersonaData(Collection<Long> steamIds, int flags) {
+        List<CompletableFuture<Void>> futures = new ArrayList<>(steamIds.size());
+        synchronized (this) {
+            int now = clockSeconds();
+            for (long steamId : steamIds) {
+                // served from the cache only if the row is fresh and was filled with every field asked for
+                int lastUpdate = friends.get(steamId, COL_LAST_UPDATE, 0);
+                if (lastUpdate != 0 && now - lastUpdate < personaCacheSeconds && (flags & ~friends.get(steamId, COL_CACHED_FLAGS, 0)) == 0) {
+                    continue;
+                }
+                PersonaRequest request = personaRequests.get(steamId);
+                if (request == null) {
+                    request = new PersonaRequest();
+                    personaRequests.put(steamId, request);
+                }
+                CompletableFuture<Void> future = request.waiters.get(flags);
+                if (future == null) {
+                    future = new CompletableFuture<>();
+                    request.waiters.put(flags, future);
+                }
+                // while a request is in flight, fields it didn't ask for are sent after its reply is in
+                if (request.sentFlags == 0) {
+                    unsentPersonaRequests.add(steamId);
+                }
+                futures.add(future);
+            }
+            schedulePersonaRequestFlush();
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[futures.size()]));
+    }
+
+    // until the module is registered requests are only collected, setSteamClient schedules them
+    private void schedulePersonaRequestFlush() {
+        if (steamClient != null && !unsentPersonaRequests.isEmpty() && personaRequestFlushFuture == null) {
+            personaRequestFlushFuture = steamClient.getConnection().getEventLoop().schedule(this::flushPersonaRequests, personaRequestBatchMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // completes the waiters the reply covers, a reply before anything was sent counts for all of them.
+    // What the reply didn't cover is asked for again. Returns the flags the reply covered
+    private int answerPersonaRequest(long steamId, PersonaRequest request, List<CompletableFuture<Void>> answered) {
+        int covered = request.sentFlags != 0 ? request.sentFlags : request.flags();
+        Iterator<Map.Entry<Integer, CompletableFuture<Void>>> iter = request.waiters.entrySet().iterator();
+        while (iter.hasNext()) {
+            Map.Entry<Integer, CompletableFuture<Void>> waiter = iter.next();
+            if ((waiter.getKey() & ~covered) == 0) {
+                iter.remove();
+                answered.add(waiter.getValue());
+            }
+        }
+        if (request.waiters.isEmpty()) {
+            personaRequests.remove(steamId);
+            unsentPersonaRequests.remove(steamId);
+        } else {
+            request.sentFlags = 0;
+            request.deadline = 0L;
+            unsentPersonaRequests.add(steamId);
+            schedulePersonaRequestFlush();
+        }
+        return covered;
     }
 
-    public void handleClientFriendsList(ClientMessageContext ctx, SM_ClientServer.CMsgClientFriendsList msg) {
+    private void flushPersonaRequests() {
+        List<SM_ClientServer.CMsgClientRequestFriendData.Builder> batches = new ArrayList<>();
+        SteamClient client;
+        synchronized (this) {
+            personaRequestFlushFuture = null;
+            client = steamClient;
+            if (client == null) {
+                return;
+            }
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(personaRequestTimeoutMillis);
+            Map<Integer, SM_ClientServer.CMsgClientRequestFriendData.Builder> open = new HashMap<>();
+            for (long steamId : unsentPersonaRequests) {
+                PersonaRequest request = personaRequests.get(steamId);
+                request.deadline = deadline;
+                request.sentFlags = request.flags();
+                SM_ClientServer.CMsgClientRequestFriendData.Builder batch = open.get(request.sentFlags);
+                if (batch == null) {
+                    batch = SM_ClientServer.CMsgClientRequestFriendData.newBuilder();
+                    batch.setPersonaStateRequested(request.sentFlags);
+                    open.put(request.sentFlags, batch);
+                    batches.add(batch);
+                }
+                batch.addFriends(steamId);
+                if (batch.getFriendsCount() == MAX_PERSONA_REQUEST_BATCH) {
+                    open.remove(request.sentFlags);
+                }
+            }
+            unsentPersonaRequests.clear();
+        }
+        for (SM_ClientServer.CMsgClientRequestFriendData.Builder batch : batches) {
+            client.send(batch);
+        }
+        client.getConnection().getEventLoop().schedule(this::expirePersonaRequests, personaRequestTimeoutMillis, TimeUnit.MILLISECONDS);
     }
 
-    public void handleClientPlayerNicknameList(ClientMessageContext ctx, SM_ClientServer.CMsgClientPlayerNicknameList msg) {
+    private void expirePersonaRequests() {
+        List<CompletableFuture<Void>> expired = new ArrayList<>();
+        synchronized (this) {
+            long now = System.nanoTime();
+            Iterator<Map.Entry<Long, PersonaRequest>> iter = personaRequests.entrySet().iterator();
+            while (iter.hasNext()) {
+                Map.Entry<Long, PersonaRequest> entry = iter.next();
+                PersonaRequest request = entry.getValue();
+                if (request.deadline != 0L && now - request.deadline >= 0L) {
+                    iter.remove();
+                    unsentPersonaRequests.remove(entry.getKey());
+                    expired.addAll(request.waiters.values());
+                }
+            }
+        }
+        for (CompletableFuture<Void> future : expired) {
+            future.completeExceptionally(new TimeoutException("no persona state received"));
+        }
+    }
+
+    public synchronized void setPersonaRequestBatchMillis(long personaRequestBatchMillis) {
+        this.personaRequestBatchMillis = personaRequestBatchMillis;
+    }
+
+    public synchronized void setPersonaRequestTimeoutMillis(long personaRequestTimeoutMillis) {
+        this.personaRequestTimeoutMillis = personaRequestTimeoutMillis;
+    }
+
+    public synchronized void setPersonaCacheSeconds(long personaCacheSeconds) {
+        this.personaCacheSeconds = personaCacheSeconds;
+    }
+
+    // seconds since this module was created, starting at 1, so 0 can mean "never"
+    private int clockSeconds() {
+        return (int) TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - createdNanos) + 1;
+    }
+
+    // one future per requested flag set, so a wider request isn't completed by the reply to a narrower one
+    private static class PersonaRequest {
+        private final Map<Integer, CompletableFuture<Void>> waiters = new HashMap<>();
+        // the flags of the request in flight, 0 while nothing is sent
+        private int sentFlags;
+        private long deadline;
+
+        private int flags() {
+            int flags = 0;
+            for (int waiterFlags : waiters.keySet()) {
+                flags |= waiterFlags;
+            }
+            return flags;
+        }
+    }
+
+    public synchronized void handleClientFriendsList(ClientMessageContext ctx, SM_ClientServer.CMsgClientFriendsList msg) {
+        if (!msg.getBincremental()) {
+            friends.setColumn(COL_RELATIONSHIP, EFriendRelationship.None.v());
+        }
+        for (SM_ClientServer.CMsgClientFriendsList.Friend friend : msg.getFriendsList()) {
+            if (friend.getUlfriendid() != 0L) {
+                friends.put(friend.getUlfriendid(), COL_RELATIONSHIP, friend.getEfriendrelationship());
+            }
+        }
+    }
+
+    public synchronized void handleClientPlayerNicknameList(ClientMessageContext ctx, SM_ClientServer.CMsgClientPlayerNicknameList msg) {
+        if (!msg.getIncremental() && !msg.getRemoval()) {
+            friends.forEachKey(steamId -> names.release(friends.get(steamId, COL_NICKNAME, 0)));
+            friends.setColumn(COL_NICKNAME, 0);
+        }
+        for (SM_ClientServer.CMsgClientPlayerNicknameList.PlayerNickname nickname : msg.getNicknamesList()) {
+            if (nickname.getSteamid() != 0L) {
+                updateName(nickname.getSteamid(), COL_NICKNAME, msg.getRemoval() ? null : nickname.getNickname(), true);
+            }
+        }
+    }
+
+    public synchronized boolean isKnown(long steamId) {
+        return friends.containsKey(steamId);
+    }
+
+    public synchronized EFriendRelationship getRelationship(long steamId) {
+        return EFriendRelationship.f(friends.get(steamId, COL_RELATIONSHIP, EFriendRelationship.None.v()));
+    }
+
+    public synchronized EPersonaState getPersonaState(long steamId) {
+        int state = friends.get(steamId, COL_PERSONA_STATE, 0);
+        return state != 0 ? EPersonaState.f(state - 1) : null;
+    }
+
+    public synchronized int getPersonaStateFlags(long steamId) {
+        return friends.get(steamId, COL_PERSONA_STATE_FLAGS, 0);
+    }
+
+    public synchronized int getPlayingAppId(long steamId) {
+        return friends.get(steamId, COL_PLAYING_APP, 0);
+    }
+
+    public synchronized String getPlayerName(long steamId) {
+        return names.get(friends.get(steamId, COL_NAME, 0));
+    }
+
+    public synchronized String getNickname(long steamId) {
+        return names.get(friends.get(steamId, COL_NICKNAME, 0));
+    }
+
+    public synchronized int getFriendCount() {
+        int[] count = new int[1];
+        forEachFriend(steamId -> count[0]++);
+        return count[0];
+    }
+
+    public synchronized void forEachFriend(LongConsumer consumer) {
+        int friend = EFriendRelationship.Friend.v();
+        friends.forEachKey(steamId -> {
+            if (friends.get(steamId, COL_RELATIONSHIP, 0) == friend) {
+                consumer.accept(steamId);
+            }
+        });
     }
 
     public void handleClientFriendMsgIncoming(ClientMessageContext ctx, SM_ClientServer.CMsgClientFriendMsgIncoming msg) throws IOException {
@@ -91,13 +542,16 @@ public class SteamFriends extends SteamClientModule {
         }
     }
 
-    private void sendChat(long steamId, String msg) throws IOException {
-        SM_ClientServer.CMsgClientFriendMsg.Builder builder = SM_ClientServer.CMsgClientFriendMsg.newBuilder();
-        builder.setSteamid(steamId);
-        builder.setChatEntryType(EChatEntryType.ChatMsg.v());
-        builder.setMessage(CStringUtil.encodeUtf8(msg));
-        builder.setRtime32ServerTimestamp((int) Instant.now().getEpochSecond());
-        steamClient.send(builder);
+    public void sendChat(long steamId, String msg) {
+        chatOutbox.send(steamId, msg);
+    }
+
+    public ChatOutbox getChatOutbox() {
+        return chatOutbox;
+    }
+
+    public void setChatOutbox(ChatOutbox chatOutbox) {
+        this.chatOutbox = chatOutbox;
     }
 
     public void setPersonaState(EPersonaState personaState) {
@@ -0,0 +1,29 @@
+package telekinesis.connection;
+
+import java.net.InetSocketAddress;
+
+public class ConnectAttempt {
+
+    private final InetSocketAddress address;
+    private final boolean success;
+    private final long latencyNanos;
+
+    public ConnectAttempt(InetSocketAddress address, boolean success, long latencyNanos) {
+        this.address = address;
+        this.success = success;
+        this.latencyNanos = latencyNanos;
+    }
+
+    public InetSocketAddress getAddress() {
+        return address;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public long getLatencyNanos() {
+        return latencyNanos;
+    }
+
+}
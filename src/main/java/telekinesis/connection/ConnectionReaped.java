@@ -0,0 +1,24 @@
+package telekinesis.connection;
+
+import java.net.SocketAddress;
+
+// published when a connection is closed because the server stopped sending anything
+public class ConnectionReaped {
+
+    private final SocketAddress address;
+    private final long idleMillis;
+
+    public ConnectionReaped(SocketAddress address, long idleMillis) {
+        this.address = address;
+        this.idleMillis = idleMillis;
+    }
+
+    public SocketAddress getAddress() {
+        return address;
+    }
+
+    public long getIdleMillis() {
+        return idleMillis;
+    }
+
+}
@@ -0,0 +1,196 @@
+package telekinesis.connection;
+
+import io.netty.channel.EventLoop;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import io.netty.util.TimerTask;
+import io.netty.util.concurrent.DefaultThreadFactory;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+// Watches the idle time of many connections from one timer thread instead of a scheduled
+// task per connection. Connections sit in a wheel of tick buckets, their first check is staggered
+// across the interval so they don't all come due on the same tick. Activity is stamped with a
+// coarse clock advanced once per tick, and everything that comes due on a tick is handed to its
+// event loop in one task.
+public class HeartbeatService {
+
+    // shared by all connections in this JVM
+    public static final HeartbeatService GLOBAL = new HeartbeatService(
+            new HashedWheelTimer(new DefaultThreadFactory("telekinesis-heartbeat", true), 10L, TimeUnit.MILLISECONDS), 100L, 512);
+
+    private static final AtomicInteger nextStagger = new AtomicInteger();
+
+    private final Timer timer;
+    private final long tickMillis;
+    private final int mask;
+    private final long startNanos = System.nanoTime();
+
+    // only touched by the timer thread
+    private final List<List<Registration>> wheel;
+    private long tick;
+
+    private final Queue<Registration> added = new ConcurrentLinkedQueue<>();
+    private volatile long coarseMillis;
+    private boolean started;
+
+    public HeartbeatService(Timer timer, long tickMillis, int wheelSize) {
+        if (tickMillis <= 0L || wheelSize < 1) {
+            throw new IllegalArgumentException("tick and wheel size must be positive");
+        }
+        this.timer = timer;
+        this.tickMillis = tickMillis;
+        int size = Integer.highestOneBit(Math.max(2, wheelSize - 1)) << 1;
+        this.mask = size - 1;
+        this.wheel = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            wheel.add(new ArrayList<>());
+        }
+    }
+
+    // milliseconds since the service was created, exact to one tick
+    public long coarseMillis() {
+        return coarseMillis;
+    }
+
+    public Registration register(EventLoop eventLoop, long intervalMillis, Runnable onIdle) {
+        Registration registration = new Registration(this, eventLoop, Math.max(1L, intervalMillis / tickMillis), onIdle);
+        registration.touch();
+        added.add(registration);
+        synchronized (this) {
+            if (!started) {
+                started = true;
+                timer.newTimeout(new Tick(), tickMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+        return registration;
+    }
+
+    private void advance() {
+        coarseMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        long now = tick++;
+        Registration r;
+        while ((r = added.poll()) != null) {
+            // spread the first checks evenly over the interval
+            long stagger = ((nextStagger.getAndIncrement() * 0x9E3779B9L) & 0xFFFFFFFFL) % r.intervalTicks;
+            r.deadlineTick = now + 1 + stagger;
+            wheel.get((int) r.deadlineTick & mask).add(r);
+        }
+
+        Map<EventLoop, List<Registration>> due = null;
+        int index = (int) now & mask;
+        List<Registration> bucket = wheel.get(index);
+        for (int i = 0; i < bucket.size(); ) {
+            r = bucket.get(i);
+            if (r.cancelled) {
+                removeAt(bucket, i);
+                continue;
+            }
+            if (r.deadlineTick > now) {
+                // comes round again on a later turn of the wheel
+                i++;
+                continue;
+            }
+            long lastTick = r.lastActivity / tickMillis;
+            long idleTicks = coarseMillis / tickMillis - lastTick;
+            if (idleTicks >= r.intervalTicks) {
+                if (due == null) {
+                    due = new IdentityHashMap<>();
+                }
+                due.computeIfAbsent(r.eventLoop, l -> new ArrayList<>()).add(r);
+                r.deadlineTick = now + r.intervalTicks;
+            } else {
+                r.deadlineTick = now + r.intervalTicks - idleTicks;
+            }
+            int next = (int) r.deadlineTick & mask;
+            if (next == index) {
+                i++;
+            } else {
+                removeAt(bucket, i);
+                wheel.get(next).add(r);
+            }
+        }
+
+        if (due != null) {
+            for (Map.Entry<EventLoop, List<Registration>> entry : due.entrySet()) {
+                List<Registration> batch = entry.getValue();
+                entry.getKey().execute(() -> {
+                    for (Registration registration : batch) {
+                        if (!registration.cancelled) {
+                            registration.onIdle.run();
+                        }
+                    }
+                });
+            }
+        }
+    }
+
+    private static void removeAt(List<Registration> bucket, int i) {
+        int last = bucket.size() - 1;
+        bucket.set(i, bucket.get(last));
+        bucket.remove(last);
+    }
+
+    private class Tick implements TimerTask {
+        @Override
+        public void run(Timeout timeout) {
+            try {
+                advance();
+            } finally {
+                try {
+                    timer.newTimeout(this, tickMillis, TimeUnit.MILLISECONDS);
+                } catch (IllegalStateException e) {
+                    // the timer was stopped
+                }
+            }
+        }
+    }
+
+    public static class Registration {
+
+        private static final AtomicLongFieldUpdater<Registration> LAST_ACTIVITY = AtomicLongFieldUpdater.newUpdater(Registration.class, "lastActivity");
+
+        private final HeartbeatService service;
+        private final EventLoop eventLoop;
+        private final long intervalTicks;
+        private final Runnable onIdle;
+        private volatile long lastActivity;
+        private volatile boolean cancelled;
+        private long deadlineTick;
+
+        private Registration(HeartbeatService service, EventLoop eventLoop, long intervalTicks, Runnable onIdle) {
+            this.service = service;
+            this.eventLoop = eventLoop;
+            this.intervalTicks = intervalTicks;
+            this.onIdle = onIdle;
+        }
+
+        // an ordered store of the coarse clock, no fence and no nanoTime on the send path
+        public void touch() {
+            LAST_ACTIVITY.lazySet(this, service.coarseMillis);
+        }
+
+        // coarse, may be up to a tick off
+        public long getIdleMillis() {
+            return service.coarseMillis - lastActivity;
+        }
+
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+
+}
@@ -0,0 +1,101 @@
+package telekinesis.connection;
+
+import telekinesis.message.MessageFlag;
+import telekinesis.model.AppId;
+import telekinesis.model.steam.EMsg;
+import telekinesis.util.ClassUtil;
+
+public class MessageTrace {
+
+    private final long sequence;
+    private final long timestampMicros;
+    private final boolean outbound;
+    private final int appId;
+    private final int messageType;
+    private final long sourceJobId;
+    private final long targetJobId;
+    private final int size;
+    private final long codecNanos;
+    private final Object body;
+
+    MessageTrace(long sequence, long timestampMicros, boolean outbound, int appId, int messageType, long sourceJobId, long targetJobId, int size, long codecNanos, Object body) {
+        this.sequence = sequence;
+        this.timestampMicros = timestampMicros;
+        this.outbound = outbound;
+        this.appId = appId;
+        this.messageType = messageType;
+        this.sourceJobId = sourceJobId;
+        this.targetJobId = targetJobId;
+        this.size = size;
+        this.codecNanos = codecNanos;
+        this.body = body;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public long getTimestampMicros() {
+        return timestampMicros;
+    }
+
+    public boolean isOutbound() {
+        return outbound;
+    }
+
+    public int getAppId() {
+        return appId;
+    }
+
+    // including the proto and GC flags
+    public int getMessageType() {
+        return messageType;
+    }
+
+    public long getSourceJobId() {
+        return sourceJobId;
+    }
+
+    public long getTargetJobId() {
+        return targetJobId;
+    }
+
+    // encoded size in bytes, header included
+    public int getSize() {
+        return size;
+    }
+
+    // time spent decoding or encoding the message
+    public long getCodecNanos() {
+        return codecNanos;
+    }
+
+    // only kept if the tracer captures bodies
+    public Object getBody() {
+        return body;
+    }
+
+    public void appendTo(StringBuilder sb) {
+        sb.append(timestampMicros).append(outbound ? " out " : " in ");
+        if (appId == AppId.STEAM) {
+            sb.append(EMsg.n(messageType & MessageFlag.MASK));
+        } else {
+            sb.append("app ").append(appId).append(" type ").append(messageType & MessageFlag.MASK);
+        }
+        sb.append(", sourceJobId=").append(sourceJobId);
+        sb.append(", targetJobId=").append(targetJobId);
+        sb.append(", size=").append(size);
+        sb.append(", codecNanos=").append(codecNanos);
+        if (body != null) {
+            sb.append(", body=").append(ClassUtil.packageRelativeClassName(body)).append(" {\n").append(body).append('}');
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(96);
+        appendTo(sb);
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,130 @@
+package telekinesis.connection;
+
+import telekinesis.message.MessageFlag;
+import telekinesis.model.AppId;
+import telekinesis.model.steam.EMsg;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Samples messages into a bounded ring of MessageTrace records. Deciding whether to sample is a
+// table lookup and a random number, recording is one allocation and a lock free slot write.
+// Nothing is rendered until the records are read, on the reading thread.
+public class MessageTracer {
+
+    private static final int RATE_ONE = 1 << 24;
+
+    private final long baseMillis = System.currentTimeMillis();
+    private final long baseNanos = System.nanoTime();
+
+    private final int mask;
+    private final AtomicReferenceArray<MessageTrace> ring;
+    private final AtomicLong nextSequence = new AtomicLong();
+
+    // indexed by EMsg ordinal, 0 if there is no override, else threshold + 1. Replaced as a whole on change
+    private volatile int[] rates;
+    private volatile int defaultRate;
+    private volatile boolean captureBodies;
+
+    public MessageTracer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.mask = size - 1;
+        this.ring = new AtomicReferenceArray<>(size);
+        this.rates = new int[EMsg.values().length];
+    }
+
+    // fraction of all messages without a rate of their own to sample, 0 by default
+    public void setDefaultSampleRate(double rate) {
+        defaultRate = toThreshold(rate);
+    }
+
+    // a negative rate removes the override and the default applies again
+    public synchronized void setSampleRate(EMsg msg, double rate) {
+        int[] updated = rates.clone();
+        updated[msg.ordinal()] = rate < 0.0 ? 0 : toThreshold(rate) + 1;
+        rates = updated;
+    }
+
+    public synchronized void resetSampleRates() {
+        rates = new int[EMsg.values().length];
+    }
+
+    // keeps references to the bodies, which are only rendered when the trace is read
+    public void setCaptureBodies(boolean captureBodies) {
+        this.captureBodies = captureBodies;
+    }
+
+    public boolean isCaptureBodies() {
+        return captureBodies;
+    }
+
+    public boolean sample(int appId, int messageType) {
+        int threshold = defaultRate;
+        if (appId == AppId.STEAM) {
+            EMsg msg = EMsg.f(messageType & MessageFlag.MASK);
+            if (msg != null) {
+                int rate = rates[msg.ordinal()];
+                if (rate != 0) {
+                    threshold = rate - 1;
+                }
+            }
+        }
+        return threshold >= RATE_ONE || (threshold > 0 && ThreadLocalRandom.current().nextInt(RATE_ONE) < threshold);
+    }
+
+    public void record(boolean outbound, int appId, int messageType, long sourceJobId, long targetJobId, int size, long codecNanos, Object body) {
+        long sequence = nextSequence.getAndIncrement();
+        long micros = baseMillis * 1000L + (System.nanoTime() - baseNanos) / 1000L;
+        MessageTrace trace = new MessageTrace(sequence, micros, outbound, appId, messageType, sourceJobId, targetJobId, size, codecNanos, captureBodies ? body : null);
+        ring.lazySet((int) sequence & mask, trace);
+    }
+
+    public long getRecordedCount() {
+        return nextSequence.get();
+    }
+
+    // the records still in the ring, oldest first
+    public List<MessageTrace> snapshot() {
+        long end = nextSequence.get();
+        long start = Math.max(0L, end - mask - 1);
+        List<MessageTrace> result = new ArrayList<>((int) (end - start));
+        for (long s = start; s < end; s++) {
+            MessageTrace trace = ring.get((int) s & mask);
+            // a slot may still hold an older record, or already a newer one
+            if (trace != null && trace.getSequence() >= start && trace.getSequence() < end) {
+                result.add(trace);
+            }
+        }
+        result.sort(Comparator.comparingLong(MessageTrace::getSequence));
+        return result;
+    }
+
+    public void export(Appendable out) throws IOException {
+        StringBuilder sb = new StringBuilder(128);
+        for (MessageTrace trace : snapshot()) {
+            sb.setLength(0);
+            trace.appendTo(sb);
+            sb.append('\n');
+            out.append(sb);
+        }
+    }
+
+    public void clear() {
+        for (int i = 0; i <= mask; i++) {
+            ring.set(i, null);
+        }
+    }
+
+    private static int toThreshold(double rate) {
+        if (rate <= 0.0) {
+            return 0;
+        }
+        return rate >= 1.0 ? RATE_ONE : Math.max(1, (int) (rate * RATE_ONE));
+    }
+
+}
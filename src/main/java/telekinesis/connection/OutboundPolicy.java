@@ -0,0 +1,11 @@
+package telekinesis.connection;
+
+// what happens to an outbound message when the channel is not writable
+public enum OutboundPolicy {
+    // wait in the outbound queue
+    QUEUE,
+    // replace a queued message of the same type, only the latest one is sent
+    COALESCE,
+    // fail the message right away
+    DROP
+}
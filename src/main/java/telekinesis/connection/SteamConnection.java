@@ -4,20 +4,28 @@ import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.ChannelPipeline;
+import io.netty.channel.EventLoop;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.SimpleChannelInboundHandler;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
-import org.slf4j.Logger;
+import io.netty.util.concurrent.ScheduledFuture;
+import telekinesis.connection.capture.WireCapture;
+import telekinesis.connection.capture.WireCaptureHandler;
 import telekinesis.connection.codec.AESCodec;
 import telekinesis.connection.codec.FrameCodec;
+import telekinesis.connection.codec.HmacAESCodec;
 import telekinesis.connection.codec.MessageCodec;
+import telekinesis.TelekinesisException;
+import telekinesis.logger.PrintfLogger;
 import telekinesis.logger.PrintfLoggerFactory;
 import telekinesis.message.ClientMessageTypeRegistry;
 import telekinesis.message.CombinedClientMessageTypeRegistry;
+import telekinesis.message.MessageFlag;
 import telekinesis.message.SimpleClientMessageTypeRegistry;
 import telekinesis.message.proto.generated.steam.SM_Base;
 import telekinesis.message.proto.generated.steam.SM_ClientServer;
@@ -35,13 +43,28 @@ import telekinesis.util.MessageDispatcher;
 import telekinesis.util.Publisher;
 
 import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 
 public class SteamConnection extends Publisher<SteamConnection> {
 
-    private static final Logger log = PrintfLoggerFactory.getLogger("steam.conn");
-    private static final Logger messageLog = PrintfLoggerFactory.getLogger("steam.conn.messages");
+    private static final PrintfLogger log = PrintfLoggerFactory.getLogger("steam.conn");
+    private static final PrintfLogger messageLog = PrintfLoggerFactory.getLogger("steam.conn.messages");
 
     private static final SimpleClientMessageTypeRegistry HANDLED_MESSAGES = new SimpleClientMessageTypeRegistry()
             .registerSimple(EMsg.ChannelEncryptRequest.v(), ChannelEncryptRequest.class)
@@ -51,26 +74,53 @@ public class SteamConnection extends Publisher<SteamConnection> {
             .registerProto(EMsg.ClientFromGC.v(), SM_ClientServer.CMsgGCClient.class);
 
     private final EventLoopGroup workerGroup;
+    // owns all session state below, for every channel this connection ever opens
+    private final EventLoop eventLoop;
     private final CombinedClientMessageTypeRegistry messageRegistry;
     private final ClientMessageHandler messageHandler;
     private final MessageDispatcher selfHandledMessageDispatcher;
-    private IdleTimeoutFunction heartbeatFunction;
-
-    private ConnectionState connectionState;
-    private SocketChannel channel;
+    private HeartbeatService heartbeatService = HeartbeatService.GLOBAL;
+    private volatile HeartbeatService.Registration heartbeat;
+    private volatile HeartbeatService.Registration readWatch;
+    private int probeAfterHeartbeats = 2;
+    private int reapAfterHeartbeats = 3;
+    private final LongAdder livenessProbes = new LongAdder();
+    private final LongAdder reapedConnections = new LongAdder();
+
+    // only written on the event loop, volatile for the getters
+    private volatile ConnectionState connectionState;
+    private volatile SocketChannel channel;
+    private volatile long steamId;
+    private volatile int sessionId;
     private AESCodec aesCodec;
-    private long steamId;
-    private int sessionId;
 
     private Map<Long, Handler<ClientMessageContext, ? extends Object>> callbackMap = new HashMap<>();
     private long nextSourceJobId = 0L;
 
+    private final Deque<QueuedMessage> outboundQueue = new ArrayDeque<>();
+    private volatile int outboundBacklog;
+    private final Map<Integer, OutboundPolicy> outboundPolicies = new ConcurrentHashMap<>();
+    private int maxQueuedMessages = 10000;
+    private int writeBufferLowWaterMark = 32 * 1024;
+    private int writeBufferHighWaterMark = 64 * 1024;
+    private final Set<Object> readPausers = ConcurrentHashMap.newKeySet();
+    private final Map<Integer, ClientMessageHandler> appMessageHandlers = new ConcurrentHashMap<>();
+    private volatile WireCapture wireCapture;
+    private final MessageTracer messageTracer = new MessageTracer(4096);
+
+    // tasks handed over by other threads, drained by a single event loop task
+    private final Queue<Runnable> handoff = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean handoffScheduled = new AtomicBoolean();
+    private final Runnable drainHandoff = this::drainHandoff;
+    private boolean flushPending;
+
     public SteamConnection(EventLoopGroup workerGroup) {
         this(workerGroup, null);
     }
 
     public SteamConnection(EventLoopGroup workerGroup, ClientMessageHandler messageHandler) {
         this.workerGroup = workerGroup;
+        this.eventLoop = workerGroup.next();
         this.messageRegistry = new CombinedClientMessageTypeRegistry(HANDLED_MESSAGES);
         this.messageHandler = messageHandler;
 
@@ -80,7 +130,60 @@ public class SteamConnection extends Publisher<SteamConnection> {
 
         connectionState = ConnectionState.DISCONNECTED;
 
-        resetState();
+        setOutboundPolicy(EMsg.ClientHeartBeat.v(), OutboundPolicy.COALESCE);
+        setOutboundPolicy(EMsg.ClientChangeStatus.v(), OutboundPolicy.COALESCE);
+        setOutboundPolicy(EMsg.ClientGamesPlayed.v(), OutboundPolicy.COALESCE);
+        setOutboundPolicy(EMsg.ClientGamesPlayedWithDataBlob.v(), OutboundPolicy.COALESCE);
+
+        steamId = SteamId.DEFAULT;
+    }
+
+    // Thread model: everything about the session (channel, job callbacks, outbound queue, encryption
+    // handshake, state changes) is only touched on this event loop, and all events of this connection are
+    // published on it. Public methods may be called from any thread, they hand their work to the loop,
+    // or run it right away when already on it.
+    public EventLoop getEventLoop() {
+        return eventLoop;
+    }
+
+    public boolean inEventLoop() {
+        return eventLoop.inEventLoop();
+    }
+
+    // tasks from one thread run in the order they were given, writes they make are flushed once afterwards
+    public void execute(Runnable task) {
+        if (eventLoop.inEventLoop()) {
+            task.run();
+            flushIfPending();
+        } else {
+            handoff.add(task);
+            if (handoffScheduled.compareAndSet(false, true)) {
+                eventLoop.execute(drainHandoff);
+            }
+        }
+    }
+
+    private void drainHandoff() {
+        handoffScheduled.set(false);
+        Runnable task;
+        while ((task = handoff.poll()) != null) {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.error("task handed to the event loop failed", e);
+            }
+        }
+        flushIfPending();
+    }
+
+    private void flushIfPending() {
+        if (flushPending) {
+            flushPending = false;
+            SocketChannel ch = channel;
+            if (ch != null) {
+                ch.flush();
+            }
+        }
     }
 
     public void addRegistry(ClientMessageTypeRegistry registry) {
@@ -91,57 +194,179 @@ public class SteamConnection extends Publisher<SteamConnection> {
         messageRegistry.removeRegistry(registry);
     }
 
+    // everything this connection can decode, e.g. to replay a capture with
+    public ClientMessageTypeRegistry getMessageRegistry() {
+        return messageRegistry;
+    }
+
     public void connect(String host, int port) {
+        connect(Collections.singletonList(new InetSocketAddress(host, port)), 0L);
+    }
+
+    public void connect(List<InetSocketAddress> candidates, long staggerMillis) {
+        if (candidates.isEmpty()) {
+            throw new IllegalArgumentException("no address to connect to");
+        }
+        // the race runs on the connection's event loop like everything else, so it needs no locking
         Bootstrap b = new Bootstrap();
-        b.group(workerGroup);
+        b.group(eventLoop);
         b.channel(NioSocketChannel.class);
         b.option(ChannelOption.SO_KEEPALIVE, true);
         b.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 5000);
-        b.remoteAddress(host, port);
         b.handler(new ChannelInitializer<SocketChannel>() {
             @Override
             public void initChannel(SocketChannel ch) throws Exception {
+                applyWriteBufferWaterMarks(ch);
+                ch.config().setAutoRead(readPausers.isEmpty());
                 ChannelPipeline pipeline = ch.pipeline();
+                pipeline.addLast(ReadActivityHandler.class.getSimpleName(), new ReadActivityHandler());
                 pipeline.addLast(FrameCodec.class.getSimpleName(), new FrameCodec(messageLog));
-                pipeline.addLast(MessageCodec.class.getSimpleName(), new MessageCodec(messageLog, messageRegistry));
+                WireCapture capture = wireCapture;
+                if (capture != null) {
+                    // the AESCodec goes in right after the FrameCodec later on, so this always sees plain text
+                    pipeline.addLast(WireCaptureHandler.class.getSimpleName(), new WireCaptureHandler(capture));
+                }
+                MessageCodec messageCodec = new MessageCodec(messageLog, messageRegistry);
+                messageCodec.setTracer(messageTracer);
+                pipeline.addLast(MessageCodec.class.getSimpleName(), messageCodec);
                 pipeline.addLast(ConnectionHandler.class.getSimpleName(), new ConnectionHandler());
             }
         });
-        ChannelFuture channelFuture = b.connect();
-        channelFuture.addListener(new ChannelFutureListener() {
-            @Override
-            public void operationComplete(ChannelFuture future) throws Exception {
-                if (future.isSuccess()) {
-                    channel = (SocketChannel) future.channel();
-                    log.info("connected to peer %s", channel.remoteAddress());
-                    changeConnectionState(ConnectionState.CONNECTED);
-                } else {
-                    log.info("connection attempt failed: %s", future.cause().getMessage());
+        ConnectRace race = new ConnectRace(b, candidates, staggerMillis);
+        execute(() -> {
+            resetState();
+            changeConnectionState(ConnectionState.CONNECTING);
+            race.launchNext();
+        });
+    }
+
+    private void applyWriteBufferWaterMarks(SocketChannel ch) {
+        // netty refuses a low mark above the current high mark and vice versa, so the order matters
+        if (writeBufferLowWaterMark > ch.config().getWriteBufferHighWaterMark()) {
+            ch.config().setWriteBufferHighWaterMark(writeBufferHighWaterMark);
+            ch.config().setWriteBufferLowWaterMark(writeBufferLowWaterMark);
+        } else {
+            ch.config().setWriteBufferLowWaterMark(writeBufferLowWaterMark);
+            ch.config().setWriteBufferHighWaterMark(writeBufferHighWaterMark);
+        }
+    }
+
+    // starts a new attempt every staggerMillis (or right away when one fails), first connection to succeed wins
+    private class ConnectRace {
+
+        private final Bootstrap bootstrap;
+        private final Iterator<InetSocketAddress> remaining;
+        private final long staggerMillis;
+        private final List<ChannelFuture> pending = new ArrayList<>();
+        private ScheduledFuture<?> staggerFuture;
+        private boolean decided;
+
+        private ConnectRace(Bootstrap bootstrap, List<InetSocketAddress> candidates, long staggerMillis) {
+            this.bootstrap = bootstrap;
+            this.remaining = new ArrayList<>(candidates).iterator();
+            this.staggerMillis = staggerMillis;
+        }
+
+        private void launchNext() {
+            staggerFuture = null;
+            if (decided || !remaining.hasNext()) {
+                return;
+            }
+            InetSocketAddress address = remaining.next();
+            long start = System.nanoTime();
+            log.debug("starting connection attempt to %s", address);
+            ChannelFuture channelFuture = bootstrap.connect(address);
+            pending.add(channelFuture);
+            channelFuture.addListener((ChannelFutureListener) future -> onAttemptComplete(future, address, System.nanoTime() - start));
+            if (remaining.hasNext()) {
+                staggerFuture = eventLoop.schedule(this::launchNext, staggerMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        private void onAttemptComplete(ChannelFuture future, InetSocketAddress address, long latencyNanos) {
+            pending.remove(future);
+            if (future.isCancelled()) {
+                return;
+            }
+            publish(SteamConnection.this, new ConnectAttempt(address, future.isSuccess(), latencyNanos));
+            if (future.isSuccess()) {
+                if (decided) {
+                    future.channel().close();
+                    return;
+                }
+                decided = true;
+                cancelRemaining();
+                channel = (SocketChannel) future.channel();
+                log.info("connected to peer %s", channel.remoteAddress());
+                changeConnectionState(ConnectionState.CONNECTED);
+            } else {
+                log.info("connection attempt to %s failed: %s", address, future.cause().getMessage());
+                if (decided) {
+                    return;
+                }
+                if (remaining.hasNext()) {
+                    if (staggerFuture != null) {
+                        staggerFuture.cancel(false);
+                    }
+                    launchNext();
+                } else if (pending.isEmpty()) {
+                    decided = true;
                     changeConnectionState(ConnectionState.CONNECTION_FAILED);
                 }
             }
-        });
-        changeConnectionState(ConnectionState.CONNECTING);
+        }
+
+        private void cancelRemaining() {
+            if (staggerFuture != null) {
+                staggerFuture.cancel(false);
+                staggerFuture = null;
+            }
+            for (ChannelFuture future : new ArrayList<>(pending)) {
+                future.cancel(false);
+            }
+            pending.clear();
+        }
+
     }
 
     public void disconnect() {
-        if (channel != null && connectionState != ConnectionState.DISCONNECTING) {
-            disableHeartbeat();
-            changeConnectionState(ConnectionState.DISCONNECTING);
-            channel.close();
-        }
+        execute(() -> {
+            if (channel != null && connectionState != ConnectionState.DISCONNECTING) {
+                disableHeartbeat();
+                changeConnectionState(ConnectionState.DISCONNECTING);
+                channel.close();
+            }
+        });
     }
 
     public boolean isAlive() {
         return channel != null && channel.isActive();
     }
 
+    // any bytes from the server count as a sign of life, even if they don't decode to a known message
+    private class ReadActivityHandler extends ChannelInboundHandlerAdapter {
+
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+            HeartbeatService.Registration watch = readWatch;
+            if (watch != null) {
+                watch.touch();
+            }
+            ctx.fireChannelRead(msg);
+        }
+    }
+
     public class ConnectionHandler extends SimpleChannelInboundHandler<Message> {
 
         @Override
         public void channelInactive(ChannelHandlerContext ctx) throws Exception {
             super.channelInactive(ctx);
+            if (ctx.channel() != channel) {
+                // a connection that lost the connect race
+                return;
+            }
             channel = null;
+            failOutboundQueue("connection closed before the message was sent");
             switch (connectionState) {
                 case CONNECTING:
                     log.info("connection attempt timed out");
@@ -153,6 +378,7 @@ public class SteamConnection extends Publisher<SteamConnection> {
                     break;
                 default:
                     log.info("connection lost");
+                    disableHeartbeat();
                     changeConnectionState(ConnectionState.LOST);
                     break;
             }
@@ -169,15 +395,31 @@ public class SteamConnection extends Publisher<SteamConnection> {
                 sessionId = h.getSessionId();
             }
             ClientMessageContext ctx = new ClientMessageContext(SteamConnection.this, msg.getAppId(), h.getSourceJobId(), h.getTargetJobId());
-            if (h.getTargetJobId() != -1) {
+            ClientMessageHandler appMessageHandler = msg.getAppId() != AppId.STEAM ? appMessageHandlers.get(msg.getAppId()) : null;
+            if (appMessageHandler != null) {
+                appMessageHandler.handleClientMessage(ctx, msg.getBody());
+            } else if (h.getTargetJobId() != -1) {
                 Handler<ClientMessageContext, Object> handler = (Handler<ClientMessageContext, Object>) callbackMap.remove(h.getTargetJobId());
-                handler.handle(ctx, msg.getBody());
+                if (handler != null) {
+                    handler.handle(ctx, msg.getBody());
+                } else {
+                    // the request was cancelled or the handler was cleared with the last session
+                    log.debug("no handler for job %d, dropped %s", h.getTargetJobId(), ClassUtil.packageRelativeClassName(msg.getBody()));
+                }
             } else {
                 selfHandledMessageDispatcher.handleClientMessage(ctx, msg.getBody());
                 messageHandler.handleClientMessage(ctx, msg.getBody());
             }
         }
 
+        @Override
+        public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+            if (ctx.channel() == channel && ctx.channel().isWritable()) {
+                drainOutboundQueue();
+            }
+            super.channelWritabilityChanged(ctx);
+        }
+
         @Override
         public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception {
             log.error("unhandled exception in steam connection", cause);
@@ -193,49 +435,256 @@ public class SteamConnection extends Publisher<SteamConnection> {
     }
 
     public <P> void request(int appId, Object body, Handler<ClientMessageContext, P> handler) {
-        long cid = nextSourceJobId++;
-        callbackMap.put(cid, handler);
-        send(appId, cid, -1L, body);
+        execute(() -> {
+            long cid = nextSourceJobId++;
+            callbackMap.put(cid, handler);
+            CompletableFuture<Void> result = new CompletableFuture<>();
+            // a request that was never sent gets no reply, so its handler must not stay behind.
+            // Writes complete on the event loop, the callback map is safe to touch here
+            result.whenComplete((v, e) -> {
+                if (e != null) {
+                    callbackMap.remove(cid, handler);
+                    log.warn("request %s not sent: %s", ClassUtil.packageRelativeClassName(body), e.getMessage());
+                }
+            });
+            writeOrEnqueue(appId, cid, -1L, body, result);
+        });
+    }
+
+    // forgets the handler of a request nobody waits for anymore, a late reply is dropped
+    public void cancelRequest(Handler<ClientMessageContext, ?> handler) {
+        execute(() -> callbackMap.values().removeIf(h -> h == handler));
     }
 
     public void reply(int appId, long targetJobId, Object body) {
         send(appId, -1L, targetJobId, body);
     }
 
-    private void send(int appId, long sourceJobId, long targetJobId, Object body) {
-        channel.eventLoop().execute(() -> {
-            if (heartbeatFunction != null) {
-                heartbeatFunction.resetTimer();
-            }
-            logMessage("sending", sourceJobId, targetJobId, body);
+    public boolean trySend(int appId, Object body) {
+        SocketChannel ch = channel;
+        if (ch == null || !ch.isWritable() || outboundBacklog > 0) {
+            return false;
+        }
+        send(appId, -1L, -1L, body);
+        return true;
+    }
 
-            Class<? extends Header> headerClass = messageRegistry.getHeaderClassForBody(appId, body);
-            if (headerClass == null) {
-                throw new RuntimeException("don't now header class for body of class " + body.getClass().getName());
-            }
-            Header header;
-            try {
-                header = headerClass.newInstance();
-            } catch (Exception e) {
-                throw new RuntimeException("unable to create an instance of header class " + headerClass.getName(), e);
+    public CompletableFuture<Void> sendAsync(int appId, Object body) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        if (channel == null) {
+            result.completeExceptionally(new TelekinesisException("not connected"));
+        } else {
+            send(appId, -1L, -1L, body, result);
+        }
+        return result;
+    }
+
+    public boolean isWritable() {
+        SocketChannel ch = channel;
+        return ch != null && ch.isWritable() && outboundBacklog == 0;
+    }
+
+    // for callers doing their own job bookkeeping, like the game coordinators
+    public void send(int appId, long sourceJobId, long targetJobId, Object body) {
+        send(appId, sourceJobId, targetJobId, body, null);
+    }
+
+    private void send(int appId, long sourceJobId, long targetJobId, Object body, CompletableFuture<Void> result) {
+        execute(() -> writeOrEnqueue(appId, sourceJobId, targetJobId, body, result));
+    }
+
+    // writes all bodies in one event loop task, with a single flush at the end
+    public void sendBatch(int appId, List<?> bodies) {
+        List<Object> batch = new ArrayList<>(bodies);
+        execute(() -> {
+            for (Object body : batch) {
+                writeOrEnqueue(appId, -1L, -1L, body, null);
             }
-            Message message = new Message(appId, header, body);
+        });
+    }
+
+    private void writeOrEnqueue(int appId, long sourceJobId, long targetJobId, Object body, CompletableFuture<Void> result) {
+        assert eventLoop.inEventLoop() : "write off the event loop";
+        if (channel == null) {
+            fail(result, "not connected, dropped %s", ClassUtil.packageRelativeClassName(body));
+            return;
+        }
+        HeartbeatService.Registration hb = heartbeat;
+        if (hb != null) {
+            hb.touch();
+        }
+        logMessage("sending", sourceJobId, targetJobId, body);
+
+        Class<? extends Header> headerClass = messageRegistry.getHeaderClassForBody(appId, body);
+        if (headerClass == null) {
+            throw new RuntimeException("don't now header class for body of class " + body.getClass().getName());
+        }
+        Header header;
+        try {
+            header = headerClass.newInstance();
+        } catch (Exception e) {
+            throw new RuntimeException("unable to create an instance of header class " + headerClass.getName(), e);
+        }
+        Message message = new Message(appId, header, body);
+
+        header.setSteamId(steamId);
+        header.setSessionId(sessionId);
+        header.setSourceJobId(sourceJobId);
+        header.setTargetJobId(targetJobId);
+        if (outboundQueue.isEmpty() && channel.isWritable()) {
+            write(message, result);
+        } else {
+            enqueue(message, result);
+        }
+    }
+
+    private void write(Message message, CompletableFuture<Void> result) {
+        flushPending = true;
+        ChannelFuture future = channel.write(message);
+        if (result != null) {
+            future.addListener((ChannelFutureListener) f -> {
+                if (f.isSuccess()) {
+                    result.complete(null);
+                } else {
+                    result.completeExceptionally(f.cause());
+                }
+            });
+        }
+    }
+
+    private void enqueue(Message message, CompletableFuture<Void> result) {
+        Integer type = messageRegistry.getMessageTypeForBody(message.getAppId(), message.getBody());
+        int key = type != null ? type & ~MessageFlag.PROTO : 0;
+        OutboundPolicy policy = outboundPolicies.getOrDefault(key, OutboundPolicy.QUEUE);
+        switch (policy) {
+            case DROP:
+                fail(result, "channel is not writable, dropped %s", ClassUtil.packageRelativeClassName(message.getBody()));
+                return;
+            case COALESCE:
+                Iterator<QueuedMessage> iter = outboundQueue.iterator();
+                while (iter.hasNext()) {
+                    QueuedMessage queued = iter.next();
+                    if (queued.key == key && queued.message.getAppId() == message.getAppId()) {
+                        iter.remove();
+                        fail(queued.result, "superseded by a newer %s", ClassUtil.packageRelativeClassName(message.getBody()));
+                    }
+                }
+                break;
+            default:
+                if (outboundQueue.size() >= maxQueuedMessages) {
+                    fail(result, "outbound queue is full, dropped %s", ClassUtil.packageRelativeClassName(message.getBody()));
+                    return;
+                }
+                break;
+        }
+        outboundQueue.addLast(new QueuedMessage(key, message, result));
+        outboundBacklog = outboundQueue.size();
+    }
+
+    private void drainOutboundQueue() {
+        assert eventLoop.inEventLoop() : "outbound queue drained off the event loop";
+        while (channel != null && channel.isWritable() && !outboundQueue.isEmpty()) {
+            QueuedMessage queued = outboundQueue.removeFirst();
+            write(queued.message, queued.result);
+        }
+        if (channel != null) {
+            channel.flush();
+        }
+        outboundBacklog = outboundQueue.size();
+    }
+
+    private void failOutboundQueue(String reason) {
+        assert eventLoop.inEventLoop() : "outbound queue failed off the event loop";
+        while (!outboundQueue.isEmpty()) {
+            fail(outboundQueue.removeFirst().result, reason);
+        }
+        outboundBacklog = 0;
+    }
+
+    private void fail(CompletableFuture<Void> result, String format, Object... parameters) {
+        TelekinesisException e = new TelekinesisException(format, parameters);
+        if (result != null) {
+            result.completeExceptionally(e);
+        } else {
+            log.warn(e.getMessage());
+        }
+    }
+
+    private static class QueuedMessage {
+        private final int key;
+        private final Message message;
+        private final CompletableFuture<Void> result;
 
-            header.setSteamId(steamId);
-            header.setSessionId(sessionId);
-            header.setSourceJobId(sourceJobId);
-            header.setTargetJobId(targetJobId);
-            channel.writeAndFlush(message);
+        private QueuedMessage(int key, Message message, CompletableFuture<Void> result) {
+            this.key = key;
+            this.message = message;
+            this.result = result;
+        }
+    }
+
+    public void setWriteBufferWaterMarks(int lowWaterMark, int highWaterMark) {
+        if (lowWaterMark > highWaterMark) {
+            throw new IllegalArgumentException("low water mark must not exceed high water mark");
+        }
+        this.writeBufferLowWaterMark = lowWaterMark;
+        this.writeBufferHighWaterMark = highWaterMark;
+    }
+
+    public void setMaxQueuedMessages(int maxQueuedMessages) {
+        this.maxQueuedMessages = maxQueuedMessages;
+    }
+
+    public void setOutboundPolicy(int messageType, OutboundPolicy policy) {
+        outboundPolicies.put(messageType & ~MessageFlag.PROTO, policy);
+    }
+
+    // reading from the socket stops as long as at least one owner has paused it
+    public void setReadPaused(Object owner, boolean paused) {
+        execute(() -> {
+            boolean changed = paused ? readPausers.add(owner) : readPausers.remove(owner);
+            SocketChannel ch = channel;
+            if (changed && ch != null) {
+                ch.config().setAutoRead(readPausers.isEmpty());
+            }
         });
     }
 
+    // sampling is off until a rate is set
+    public MessageTracer getMessageTracer() {
+        return messageTracer;
+    }
+
+    // takes effect with the next connection
+    public void setWireCapture(WireCapture wireCapture) {
+        this.wireCapture = wireCapture;
+    }
+
+    public WireCapture getWireCapture() {
+        return wireCapture;
+    }
+
+    public boolean isReadPaused() {
+        return !readPausers.isEmpty();
+    }
+
+    // messages of this app skip the generic dispatch and job callbacks and go straight to the handler
+    public void setAppMessageHandler(int appId, ClientMessageHandler handler) {
+        if (handler != null) {
+            appMessageHandlers.put(appId, handler);
+        } else {
+            appMessageHandlers.remove(appId);
+        }
+    }
+
     private void resetState() {
+        assert eventLoop.inEventLoop() : "session reset off the event loop";
         this.steamId = SteamId.DEFAULT;
         this.sessionId = 0;
         this.callbackMap.clear();
     }
 
     private void changeConnectionState(ConnectionState newState) {
+        assert eventLoop.inEventLoop() : "connection state changed off the event loop";
         if (connectionState == newState) {
             log.debug("connectionState is already %s", newState);
             return;
@@ -246,8 +695,8 @@ public class SteamConnection extends Publisher<SteamConnection> {
     }
 
     protected void handleChannelEncryptRequest(ClientMessageContext ctx, ChannelEncryptRequest in) throws IOException {
-        log.info("handling encryption request for universe %s, protocol version %d", in.getUniverse(), in.getProtocolVersion());
-        aesCodec = new AESCodec(in.getUniverse());
+        log.info("handling encryption request for universe %s, protocol version %d, hmac %s", in.getUniverse(), in.getProtocolVersion(), in.getChallenge() != null);
+        aesCodec = in.getChallenge() != null ? new HmacAESCodec(in.getUniverse(), in.getChallenge()) : new AESCodec(in.getUniverse());
         ChannelEncryptResponse out = new ChannelEncryptResponse();
         out.setProtocolVersion(in.getProtocolVersion());
         out.setBlockLength(AESCodec.BLOCK_SIZE_BITS);
@@ -271,31 +720,79 @@ public class SteamConnection extends Publisher<SteamConnection> {
         aesCodec = null;
     }
 
+    public void setHeartbeatService(HeartbeatService heartbeatService) {
+        this.heartbeatService = heartbeatService;
+    }
+
+    // After probeAfterHeartbeats heartbeat intervals without anything from the server a heartbeat asking
+    // for a reply goes out on every interval, after reapAfterHeartbeats the connection is closed as lost.
+    // 0 turns the respective step off.
+    public void setReadIdleLimits(int probeAfterHeartbeats, int reapAfterHeartbeats) {
+        this.probeAfterHeartbeats = probeAfterHeartbeats;
+        this.reapAfterHeartbeats = reapAfterHeartbeats;
+    }
+
+    public long getLivenessProbes() {
+        return livenessProbes.sum();
+    }
+
+    public long getReapedConnections() {
+        return reapedConnections.sum();
+    }
+
     public void enableHeartbeat(int seconds) {
-        this.heartbeatFunction = new IdleTimeoutFunction(channel.eventLoop()) {
-            @Override
-            protected void onTimout() {
-                SM_ClientServer.CMsgClientHeartBeat.Builder msg = SM_ClientServer.CMsgClientHeartBeat.newBuilder();
-                send(msg);
+        assert eventLoop.inEventLoop() : "heartbeat enabled off the event loop";
+        disableHeartbeat();
+        SocketChannel ch = channel;
+        long intervalMillis = TimeUnit.SECONDS.toMillis(seconds);
+        heartbeat = heartbeatService.register(ch.eventLoop(), intervalMillis, () -> {
+            if (channel == ch) {
+                send(SM_ClientServer.CMsgClientHeartBeat.newBuilder());
             }
-        };
-        heartbeatFunction.enable(seconds);
+        });
+        if (probeAfterHeartbeats > 0 || reapAfterHeartbeats > 0) {
+            readWatch = heartbeatService.register(ch.eventLoop(), intervalMillis, () -> checkReadIdle(ch, intervalMillis));
+        }
     }
 
     public void disableHeartbeat() {
-        if (heartbeatFunction != null) {
-            heartbeatFunction.disable();
-            heartbeatFunction = null;
+        HeartbeatService.Registration hb = heartbeat;
+        if (hb != null) {
+            hb.cancel();
+            heartbeat = null;
+        }
+        HeartbeatService.Registration watch = readWatch;
+        if (watch != null) {
+            watch.cancel();
+            readWatch = null;
+        }
+    }
+
+    private void checkReadIdle(SocketChannel ch, long intervalMillis) {
+        HeartbeatService.Registration watch = readWatch;
+        if (channel != ch || watch == null) {
+            return;
+        }
+        long idleMillis = watch.getIdleMillis();
+        if (reapAfterHeartbeats > 0 && idleMillis >= reapAfterHeartbeats * intervalMillis) {
+            log.warn("nothing received from %s for %d ms, closing the connection", ch.remoteAddress(), idleMillis);
+            reapedConnections.increment();
+            watch.cancel();
+            publish(this, new ConnectionReaped(ch.remoteAddress(), idleMillis));
+            // closing ends up in channelInactive, which reports the connection as LOST
+            ch.close();
+        } else if (probeAfterHeartbeats > 0 && idleMillis >= probeAfterHeartbeats * intervalMillis) {
+            log.debug("nothing received from %s for %d ms, probing", ch.remoteAddress(), idleMillis);
+            livenessProbes.increment();
+            send(SM_ClientServer.CMsgClientHeartBeat.newBuilder().setSendReply(true));
         }
     }
 
-    private synchronized void logMessage(String prefix, long sourceJobId, long targetJobId, Object body) {
+    // bodies are no longer dumped here, sample them with the message tracer instead
+    private void logMessage(String prefix, long sourceJobId, long targetJobId, Object body) {
         if (messageLog.isDebugEnabled()) {
             messageLog.debug("%s %s, sourceJobId=%d, targetJobId=%d", prefix, ClassUtil.packageRelativeClassName(body), sourceJobId, targetJobId);
         }
-        if (messageLog.isTraceEnabled()) {
-            messageLog.trace(body.toString());
-        }
     }
 
     public long getSteamId() {
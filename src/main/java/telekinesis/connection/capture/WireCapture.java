@@ -0,0 +1,296 @@
+package telekinesis.connection.capture;
+
+import io.netty.buffer.ByteBuf;
+import telekinesis.logger.PrintfLogger;
+import telekinesis.logger.PrintfLoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+// Records plaintext frames into a ring of memory mapped segment files. Writers never lock and never touch
+// the file system: a frame claims its range of the current segment with a CAS and is copied into the
+// mapping. The page cache is forced to disk by a background thread, which also maps the next segment
+// ahead of time. A writer that finds the current segment full switches to that prepared segment, if there
+// is none yet the frame is dropped. When maxSegments files exist the oldest one is deleted, so disk usage
+// stays below segmentSize * maxSegments.
+//
+// segment: int magic, int version, long created millis, records until a zero length
+// record:  int payload length, byte direction, int connection id, long timestamp micros, payload
+public class WireCapture implements AutoCloseable {
+
+    private static final PrintfLogger log = PrintfLoggerFactory.getLogger("steam.capture");
+
+    static final int MAGIC = 0x4357544B; // "KTWC"
+    static final int VERSION = 1;
+    static final int SEGMENT_HEADER_SIZE = 16;
+    static final int RECORD_HEADER_SIZE = 17;
+    static final String SEGMENT_SUFFIX = ".wcap";
+
+    static final byte INBOUND = 0;
+    static final byte OUTBOUND = 1;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final long flushIntervalMillis;
+
+    private final long baseMillis = System.currentTimeMillis();
+    private final long baseNanos = System.nanoTime();
+    private final AtomicInteger nextConnectionId = new AtomicInteger();
+
+    private final AtomicReference<Segment> current = new AtomicReference<>();
+    private final AtomicReference<Segment> prepared = new AtomicReference<>();
+    private final Queue<Segment> retired = new ConcurrentLinkedQueue<>();
+    private volatile boolean closed;
+
+    // only touched by the constructor, the flusher and close(), never by writers
+    private final Deque<Path> segmentFiles = new ArrayDeque<>();
+    private long nextSegmentNumber;
+
+    private final Thread flusher;
+
+    private final LongAdder recordedFrames = new LongAdder();
+    private final LongAdder recordedBytes = new LongAdder();
+    private final LongAdder droppedFrames = new LongAdder();
+
+    public WireCapture(Path directory) throws IOException {
+        this(directory, 16 * 1024 * 1024, 8, 1000L);
+    }
+
+    public WireCapture(Path directory, int segmentSize, int maxSegments, long flushIntervalMillis) throws IOException {
+        if (segmentSize <= SEGMENT_HEADER_SIZE + RECORD_HEADER_SIZE || maxSegments < 2) {
+            throw new IllegalArgumentException("a capture needs at least two segments with room for a record");
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxSegments = maxSegments;
+        this.flushIntervalMillis = flushIntervalMillis;
+        Files.createDirectories(directory);
+        // continue the numbering of an earlier capture in the same directory, its files count against the limit
+        for (Path file : WireCaptureReader.listSegments(directory)) {
+            segmentFiles.addLast(file);
+            nextSegmentNumber = Math.max(nextSegmentNumber, WireCaptureReader.segmentNumber(file) + 1);
+        }
+        current.set(mapSegment());
+        prepared.set(mapSegment());
+        flusher = new Thread(this::runFlusher, "telekinesis-capture");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public int newConnectionId() {
+        return nextConnectionId.incrementAndGet();
+    }
+
+    public long getRecordedFrames() {
+        return recordedFrames.sum();
+    }
+
+    public long getRecordedBytes() {
+        return recordedBytes.sum();
+    }
+
+    // frames that were larger than a segment, found no prepared segment, or arrived after close()
+    public long getDroppedFrames() {
+        return droppedFrames.sum();
+    }
+
+    // copies the readable bytes of the frame, the buffer itself is left untouched
+    public void record(int connectionId, boolean outbound, ByteBuf frame) {
+        int length = frame.readableBytes();
+        if (length == 0) {
+            return;
+        }
+        int size = RECORD_HEADER_SIZE + length;
+        if (size > segmentSize - SEGMENT_HEADER_SIZE) {
+            droppedFrames.increment();
+            return;
+        }
+        long micros = baseMillis * 1000L + (System.nanoTime() - baseNanos) / 1000L;
+        Segment segment = current.get();
+        while (segment != null) {
+            segment.writers.incrementAndGet();
+            try {
+                // close() waits for writers that got in before it, later ones back off here
+                if (closed) {
+                    break;
+                }
+                int offset = segment.claim(size);
+                if (offset >= 0) {
+                    segment.write(offset, connectionId, outbound, micros, frame, length);
+                    recordedFrames.increment();
+                    recordedBytes.add(length);
+                    return;
+                }
+            } finally {
+                segment.writers.decrementAndGet();
+            }
+            segment = advance(segment);
+        }
+        droppedFrames.increment();
+    }
+
+    // the segment is full: moves on to the prepared one, or returns null if the flusher has none ready
+    private Segment advance(Segment full) {
+        Segment next = current.get();
+        if (next != full) {
+            return next;
+        }
+        Segment candidate = prepared.getAndSet(null);
+        LockSupport.unpark(flusher);
+        if (candidate == null) {
+            return null;
+        }
+        if (current.compareAndSet(full, candidate)) {
+            retired.add(full);
+            return candidate;
+        }
+        // closed in the meantime, the candidate goes back or is forced and kept empty
+        if (!prepared.compareAndSet(null, candidate)) {
+            retired.add(candidate);
+        }
+        return null;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        Segment last = current.getAndSet(null);
+        if (last != null) {
+            retired.add(last);
+        }
+        // no interrupt, that would close a FileChannel the flusher is mapping
+        LockSupport.unpark(flusher);
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // the prepared segment is always the newest file and never got a record
+        if (prepared.getAndSet(null) != null) {
+            synchronized (segmentFiles) {
+                Files.deleteIfExists(segmentFiles.pollLast());
+            }
+        }
+    }
+
+    // segments are used in the order they are mapped
+    private Segment mapSegment() throws IOException {
+        synchronized (segmentFiles) {
+            while (segmentFiles.size() >= maxSegments) {
+                Files.deleteIfExists(segmentFiles.removeFirst());
+            }
+            Path file = directory.resolve(WireCaptureReader.segmentName(nextSegmentNumber++));
+            MappedByteBuffer buffer;
+            try (FileChannel ch = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                buffer = ch.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+            } catch (IOException e) {
+                Files.deleteIfExists(file);
+                throw e;
+            }
+            segmentFiles.addLast(file);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(MAGIC);
+            buffer.putInt(VERSION);
+            buffer.putLong(System.currentTimeMillis());
+            return new Segment(buffer);
+        }
+    }
+
+    private void runFlusher() {
+        boolean running = true;
+        while (running || !retired.isEmpty()) {
+            if (running) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis));
+            } else {
+                // closing, only waits for the last writers to leave their segments
+                Thread.yield();
+            }
+            running = !closed;
+            // a retired segment is forced a last time once nobody writes to it anymore
+            int n = retired.size();
+            for (int i = 0; i < n; i++) {
+                Segment segment = retired.poll();
+                if (segment.writers.get() == 0) {
+                    segment.map.force();
+                } else {
+                    retired.add(segment);
+                }
+            }
+            Segment active = current.get();
+            if (active != null) {
+                active.map.force();
+            }
+            if (running && prepared.get() == null) {
+                try {
+                    prepared.set(mapSegment());
+                } catch (IOException e) {
+                    log.warn("unable to prepare capture segment: %s", e.getMessage());
+                }
+            }
+        }
+    }
+
+    private static class Segment {
+        private final MappedByteBuffer map;
+        private final AtomicInteger claimed = new AtomicInteger(SEGMENT_HEADER_SIZE);
+        private final AtomicInteger writers = new AtomicInteger();
+        // position and limit are per thread, so each writer copies through a view of its own
+        private final ThreadLocal<ByteBuffer> views;
+
+        private Segment(MappedByteBuffer map) {
+            this.map = map;
+            this.views = ThreadLocal.withInitial(() -> map.duplicate().order(ByteOrder.LITTLE_ENDIAN));
+        }
+
+        // the offset of the claimed range, or -1 if the segment is full.
+        // Room for a zero length header always remains as the end marker
+        private int claim(int size) {
+            while (true) {
+                int offset = claimed.get();
+                if (offset + size + 4 > map.capacity()) {
+                    return -1;
+                }
+                if (claimed.compareAndSet(offset, offset + size)) {
+                    return offset;
+                }
+            }
+        }
+
+        // the length goes in last, until then a reader sees the end of the segment here
+        private void write(int offset, int connectionId, boolean outbound, long micros, ByteBuf frame, int length) {
+            ByteBuffer view = views.get();
+            view.clear();
+            view.put(offset + 4, outbound ? OUTBOUND : INBOUND);
+            view.putInt(offset + 5, connectionId);
+            view.putLong(offset + 9, micros);
+            view.position(offset + RECORD_HEADER_SIZE);
+            view.limit(offset + RECORD_HEADER_SIZE + length);
+            frame.getBytes(frame.readerIndex(), view);
+            view.putInt(offset, length);
+        }
+    }
+
+}
@@ -0,0 +1,35 @@
+package telekinesis.connection.capture;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+
+// Sits between the AESCodec and the MessageCodec, so it sees every frame in plain text both ways.
+public class WireCaptureHandler extends ChannelDuplexHandler {
+
+    private final WireCapture capture;
+    private final int connectionId;
+
+    public WireCaptureHandler(WireCapture capture) {
+        this.capture = capture;
+        this.connectionId = capture.newConnectionId();
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+        if (msg instanceof ByteBuf) {
+            capture.record(connectionId, false, (ByteBuf) msg);
+        }
+        ctx.fireChannelRead(msg);
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        if (msg instanceof ByteBuf) {
+            capture.record(connectionId, true, (ByteBuf) msg);
+        }
+        ctx.write(msg, promise);
+    }
+
+}
@@ -0,0 +1,100 @@
+package telekinesis.connection.capture;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+
+// Reads the segments written by WireCapture, oldest first.
+public class WireCaptureReader {
+
+    private final Path directory;
+
+    public WireCaptureReader(Path directory) {
+        this.directory = directory;
+    }
+
+    public long read(Consumer<WireRecord> consumer) throws IOException {
+        long count = 0;
+        for (Path file : listSegments(directory)) {
+            count += readSegment(file, consumer);
+        }
+        return count;
+    }
+
+    private long readSegment(Path file, Consumer<WireRecord> consumer) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+        }
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.remaining() < WireCapture.SEGMENT_HEADER_SIZE || buffer.getInt() != WireCapture.MAGIC) {
+            throw new IOException("not a capture segment: " + file);
+        }
+        int version = buffer.getInt();
+        if (version != WireCapture.VERSION) {
+            throw new IOException("unsupported capture version " + version + " in " + file);
+        }
+        buffer.getLong(); // created millis
+        long count = 0;
+        while (buffer.remaining() >= WireCapture.RECORD_HEADER_SIZE) {
+            int length = buffer.getInt();
+            if (length <= 0 || length > buffer.remaining() - (WireCapture.RECORD_HEADER_SIZE - 4)) {
+                // end marker, or the tail of a record cut off by a crash
+                break;
+            }
+            boolean outbound = buffer.get() == WireCapture.OUTBOUND;
+            int connectionId = buffer.getInt();
+            long micros = buffer.getLong();
+            ByteBuffer payload = buffer.slice();
+            payload.limit(length);
+            buffer.position(buffer.position() + length);
+            ByteBuf frame = Unpooled.wrappedBuffer(payload).order(ByteOrder.LITTLE_ENDIAN);
+            consumer.accept(new WireRecord(connectionId, outbound, micros, frame));
+            count++;
+        }
+        return count;
+    }
+
+    static List<Path> listSegments(Path directory) throws IOException {
+        List<Path> files = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return files;
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + WireCapture.SEGMENT_SUFFIX)) {
+            for (Path file : stream) {
+                if (segmentNumber(file) >= 0) {
+                    files.add(file);
+                }
+            }
+        }
+        files.sort(Comparator.comparingLong(WireCaptureReader::segmentNumber));
+        return files;
+    }
+
+    static String segmentName(long number) {
+        return String.format("%016d%s", number, WireCapture.SEGMENT_SUFFIX);
+    }
+
+    static long segmentNumber(Path file) {
+        String name = file.getFileName().toString();
+        try {
+            return Long.parseLong(name.substring(0, name.length() - WireCapture.SEGMENT_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+
+}
@@ -0,0 +1,36 @@
+package telekinesis.connection.capture;
+
+import io.netty.buffer.ByteBuf;
+
+public class WireRecord {
+
+    private final int connectionId;
+    private final boolean outbound;
+    private final long timestampMicros;
+    private final ByteBuf frame;
+
+    public WireRecord(int connectionId, boolean outbound, long timestampMicros, ByteBuf frame) {
+        this.connectionId = connectionId;
+        this.outbound = outbound;
+        this.timestampMicros = timestampMicros;
+        this.frame = frame;
+    }
+
+    public int getConnectionId() {
+        return connectionId;
+    }
+
+    public boolean isOutbound() {
+        return outbound;
+    }
+
+    public long getTimestampMicros() {
+        return timestampMicros;
+    }
+
+    // a read only view into the mapped segment, copy it to keep it beyond the next record
+    public ByteBuf getFrame() {
+        return frame;
+    }
+
+}
@@ -0,0 +1,119 @@
+package telekinesis.connection.capture;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import telekinesis.connection.Message;
+import telekinesis.connection.codec.MessageCodec;
+import telekinesis.logger.PrintfLogger;
+import telekinesis.logger.PrintfLoggerFactory;
+import telekinesis.message.ClientMessageTypeRegistry;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+// Feeds a capture back through a MessageCodec on an EmbeddedChannel, either as fast as possible
+// or paced like the recording. Useful as a benchmark corpus and to reproduce decoding bugs.
+public class WireReplay {
+
+    private static final PrintfLogger log = PrintfLoggerFactory.getLogger("steam.capture");
+
+    private final ClientMessageTypeRegistry registry;
+    private double speed = 0.0;
+    private boolean includeOutbound = false;
+    private int connectionId = 0;
+
+    private long frames;
+    private long messages;
+    private long failures;
+
+    public WireReplay(ClientMessageTypeRegistry registry) {
+        this.registry = registry;
+    }
+
+    // 1.0 replays at the recorded pace, 2.0 twice as fast, 0 without any pauses
+    public void setSpeed(double speed) {
+        this.speed = speed;
+    }
+
+    // outbound frames have the same layout and decode just as well, if their types are registered
+    public void setIncludeOutbound(boolean includeOutbound) {
+        this.includeOutbound = includeOutbound;
+    }
+
+    // 0 replays all connections of the capture
+    public void setConnectionId(int connectionId) {
+        this.connectionId = connectionId;
+    }
+
+    public long getFrames() {
+        return frames;
+    }
+
+    public long getMessages() {
+        return messages;
+    }
+
+    public long getFailures() {
+        return failures;
+    }
+
+    public long replay(Path directory, Consumer<Message> consumer) throws IOException {
+        frames = 0;
+        messages = 0;
+        failures = 0;
+        EmbeddedChannel channel = new EmbeddedChannel(new MessageCodec(log, registry));
+        long start = System.nanoTime();
+        long[] firstMicros = { -1L };
+        new WireCaptureReader(directory).read(record -> {
+            if ((record.isOutbound() && !includeOutbound) || (connectionId != 0 && record.getConnectionId() != connectionId)) {
+                return;
+            }
+            if (firstMicros[0] < 0) {
+                firstMicros[0] = record.getTimestampMicros();
+            }
+            if (speed > 0.0) {
+                pace(start, (long) ((record.getTimestampMicros() - firstMicros[0]) / speed));
+            }
+            feed(channel, record, consumer);
+        });
+        channel.finish();
+        long elapsedMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+        log.info("replayed %d frames into %d messages in %d ms, %d frames failed", frames, messages, elapsedMicros / 1000L, failures);
+        return messages;
+    }
+
+    private void feed(EmbeddedChannel channel, WireRecord record, Consumer<Message> consumer) {
+        // decode from a private unpooled heap copy, like the frames the AESCodec hands on
+        ByteBuf frame = Unpooled.buffer(record.getFrame().readableBytes()).order(ByteOrder.LITTLE_ENDIAN);
+        frame.writeBytes(record.getFrame());
+        frames++;
+        try {
+            channel.writeInbound(frame);
+        } catch (RuntimeException e) {
+            failures++;
+            log.warn("frame of connection %d at %d failed to decode: %s", record.getConnectionId(), record.getTimestampMicros(), e.toString());
+        }
+        Object msg;
+        while ((msg = channel.readInbound()) != null) {
+            messages++;
+            consumer.accept((Message) msg);
+        }
+    }
+
+    private static void pace(long startNanos, long offsetMicros) {
+        long waitNanos = startNanos + TimeUnit.MICROSECONDS.toNanos(offsetMicros) - System.nanoTime();
+        if (waitNanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
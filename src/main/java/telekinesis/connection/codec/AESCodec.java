@@ -17,8 +17,10 @@ import java.security.GeneralSecurityException;
 import java.security.Key;
 import java.security.KeyFactory;
 import java.security.PublicKey;
+import java.security.SecureRandom;
 import java.security.Security;
 import java.security.spec.X509EncodedKeySpec;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -26,6 +28,13 @@ public class AESCodec extends ChannelDuplexHandler {
 
     static Map<EUniverse, byte[]> UNIVERSE_PUBLIC_KEYS = new HashMap<>();
 
+    // parsed once, PublicKey is immutable and safe to share
+    private static final Map<EUniverse, PublicKey> UNIVERSE_RSA_KEYS = new EnumMap<>(EUniverse.class);
+
+    // the JCE objects are costly to look up through the provider but not thread safe, so every
+    // event loop thread keeps its own set and reinitializes them per use
+    private static final ThreadLocal<Ciphers> CIPHERS = new ThreadLocal<>();
+
     static {
         Security.addProvider(new BouncyCastleProvider());
 
@@ -42,6 +51,17 @@ public class AESCodec extends ChannelDuplexHandler {
         UNIVERSE_PUBLIC_KEYS.put(EUniverse.Internal, new byte[] { (byte) 0x30, (byte) 0x81, (byte) 0x9D, (byte) 0x30, (byte) 0x0D, (byte) 0x06, (byte) 0x09, (byte) 0x2A, (byte) 0x86, (byte) 0x48, (byte) 0x86, (byte) 0xF7, (byte) 0x0D, (byte) 0x01, (byte) 0x01, (byte) 0x01, (byte) 0x05, (byte) 0x00, (byte) 0x03, (byte) 0x81, (byte) 0x8B, (byte) 0x00, (byte) 0x30, (byte) 0x81, (byte) 0x87, (byte) 0x02, (byte) 0x81, (byte) 0x81, (byte) 0x00, (byte) 0xA8, (byte) 0xFE, (byte) 0x01, (byte) 0x3B, (byte) 0xB6, (byte) 0xD7, (byte) 0x21, (byte) 0x4B, (byte) 0x53, (byte) 0x23, (byte) 0x6F, (byte) 0xA1, (byte) 0xAB, (byte) 0x4E, (byte) 0xF1, (byte) 0x07, (byte) 0x30, (byte) 0xA7, (byte) 0xC6, (byte) 0x7E, (byte) 0x6A, (byte) 0x2C, (byte) 0xC2, (byte) 0x5D, (byte) 0x3A, (byte) 0xB8, (byte) 0x40, (byte) 0xCA, (byte) 0x59, (byte) 0x4D, (byte) 0x16, (byte) 0x2D, (byte) 0x74, (byte) 0xEB, (byte) 0x0E, (byte) 0x72, (byte) 0x46, (byte) 0x29, (byte) 0xF9, (byte) 0xDE, (byte) 0x9B, (byte) 0xCE,
                 (byte) 0x4B, (byte) 0x8C, (byte) 0xD0, (byte) 0xCA, (byte) 0xF4, (byte) 0x08, (byte) 0x94, (byte) 0x46, (byte) 0xA5, (byte) 0x11, (byte) 0xAF, (byte) 0x3A, (byte) 0xCB, (byte) 0xB8, (byte) 0x4E, (byte) 0xDE, (byte) 0xC6, (byte) 0xD8, (byte) 0x85, (byte) 0x0A, (byte) 0x7D, (byte) 0xAA, (byte) 0x96, (byte) 0x0A, (byte) 0xEA, (byte) 0x7B, (byte) 0x51, (byte) 0xD6, (byte) 0x22, (byte) 0x62, (byte) 0x5C, (byte) 0x1E, (byte) 0x58, (byte) 0xD7, (byte) 0x46, (byte) 0x1E, (byte) 0x09, (byte) 0xAE, (byte) 0x43, (byte) 0xA7, (byte) 0xC4, (byte) 0x34, (byte) 0x69, (byte) 0xA2, (byte) 0xA5, (byte) 0xE8, (byte) 0x44, (byte) 0x76, (byte) 0x18, (byte) 0xE2, (byte) 0x3D, (byte) 0xB7, (byte) 0xC5, (byte) 0xA8, (byte) 0x96, (byte) 0xFD, (byte) 0xE5, (byte) 0xB4, (byte) 0x4B, (byte) 0xF8, (byte) 0x40, (byte) 0x12, (byte) 0xA6, (byte) 0x17, (byte) 0x4E, (byte) 0xC4, (byte) 0xC1, (byte) 0x60, (byte) 0x0E, (byte) 0xB0, (byte) 0xC2, (byte) 0xB8, (byte) 0x40, (byte) 0x4D, (byte) 0x9E,
                 (byte) 0x76, (byte) 0x4C, (byte) 0x44, (byte) 0xF4, (byte) 0xFC, (byte) 0x6F, (byte) 0x14, (byte) 0x89, (byte) 0x73, (byte) 0xB4, (byte) 0x13, (byte) 0x02, (byte) 0x01, (byte) 0x11 });
+
+        try {
+            KeyFactory rsaFactory = KeyFactory.getInstance("RSA", "BC");
+            for (Map.Entry<EUniverse, byte[]> entry : UNIVERSE_PUBLIC_KEYS.entrySet()) {
+                if (entry.getValue() != null) {
+                    UNIVERSE_RSA_KEYS.put(entry.getKey(), rsaFactory.generatePublic(new X509EncodedKeySpec(entry.getValue())));
+                }
+            }
+        } catch (GeneralSecurityException e) {
+            throw new ExceptionInInitializerError(e);
+        }
     }
 
 
@@ -49,42 +69,39 @@ public class AESCodec extends ChannelDuplexHandler {
     public static int KEY_SIZE_BITS = 256;
     public static int BLOCK_SIZE = BLOCK_SIZE_BITS >> 3;
 
-    private final Key aesKey;
+    final Key aesKey;
     private final PublicKey rsaKey;
 
-    private final Cipher cIv;
-    private final Cipher cMain;
-
     public AESCodec(EUniverse universe) throws IOException {
-        try {
-            KeyGenerator aesGenerator = KeyGenerator.getInstance("AES", "BC");
-            aesGenerator.init(KEY_SIZE_BITS);
-            aesKey = aesGenerator.generateKey();
-            KeyFactory rsaFactory = KeyFactory.getInstance("RSA", "BC");
-            rsaKey = rsaFactory.generatePublic(new X509EncodedKeySpec(UNIVERSE_PUBLIC_KEYS.get(universe)));
-
-            cIv = Cipher.getInstance("AES/ECB/NoPadding", "BC");
-            cMain = Cipher.getInstance("AES/CBC/PKCS7Padding", "BC");
-
-        } catch (GeneralSecurityException e) {
-            throw new IOException(e);
+        rsaKey = UNIVERSE_RSA_KEYS.get(universe);
+        if (rsaKey == null) {
+            throw new IOException("no public key for universe " + universe);
         }
+        aesKey = ciphers().aesGenerator.generateKey();
     }
 
     public byte[] getEncryptedKey() throws IOException {
         try {
-            Cipher cipher = Cipher.getInstance("RSA/None/OAEPWithSHA1AndMGF1Padding", "BC");
+            Cipher cipher = ciphers().rsa;
             cipher.init(Cipher.ENCRYPT_MODE, rsaKey);
-            return cipher.doFinal(aesKey.getEncoded());
+            return cipher.doFinal(keyMaterial());
         } catch (GeneralSecurityException e) {
             throw new IOException(e);
         }
     }
 
+    // what goes to the server encrypted with the universe key
+    byte[] keyMaterial() {
+        return aesKey.getEncoded();
+    }
+
     @Override
     public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
         try {
             ByteBuf in = (ByteBuf) msg;
+            Ciphers ciphers = ciphers();
+            Cipher cIv = ciphers.iv;
+            Cipher cMain = ciphers.main;
             cIv.init(Cipher.DECRYPT_MODE, aesKey);
 
             byte[] decryptedIv = cIv.doFinal(in.array(), in.arrayOffset(), BLOCK_SIZE);
@@ -105,6 +122,9 @@ public class AESCodec extends ChannelDuplexHandler {
     public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
         try {
             ByteBuf in = (ByteBuf) msg;
+            Ciphers ciphers = ciphers();
+            Cipher cIv = ciphers.iv;
+            Cipher cMain = ciphers.main;
             cIv.init(Cipher.ENCRYPT_MODE, aesKey);
             cMain.init(Cipher.ENCRYPT_MODE, aesKey);
 
@@ -120,4 +140,41 @@ public class AESCodec extends ChannelDuplexHandler {
         }
     }
 
+    static Ciphers ciphers() throws IOException {
+        Ciphers ciphers = CIPHERS.get();
+        if (ciphers == null) {
+            try {
+                ciphers = new Ciphers();
+            } catch (GeneralSecurityException e) {
+                throw new IOException(e);
+            }
+            CIPHERS.set(ciphers);
+        }
+        return ciphers;
+    }
+
+    static class Ciphers {
+
+        final KeyGenerator aesGenerator;
+        final Cipher rsa;
+        final Cipher iv;
+        final Cipher main;
+
+        // from the preferred provider rather than BC, on current JVMs these run on the AES instructions.
+        // PKCS5 padding is the same as PKCS7 for a 16 byte block
+        final Cipher nativeIv;
+        final Cipher nativeMain;
+        final SecureRandom random = new SecureRandom();
+
+        private Ciphers() throws GeneralSecurityException {
+            aesGenerator = KeyGenerator.getInstance("AES", "BC");
+            aesGenerator.init(KEY_SIZE_BITS);
+            rsa = Cipher.getInstance("RSA/None/OAEPWithSHA1AndMGF1Padding", "BC");
+            iv = Cipher.getInstance("AES/ECB/NoPadding", "BC");
+            main = Cipher.getInstance("AES/CBC/PKCS7Padding", "BC");
+            nativeIv = Cipher.getInstance("AES/ECB/NoPadding");
+            nativeMain = Cipher.getInstance("AES/CBC/PKCS5Padding");
+        }
+    }
+
 }
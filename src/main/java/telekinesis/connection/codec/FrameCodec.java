@@ -5,7 +5,7 @@ import io.netty.channel.ChannelDuplexHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelPromise;
 import io.netty.util.ReferenceCountUtil;
-import org.slf4j.Logger;
+import telekinesis.logger.PrintfLogger;
 
 import java.io.IOException;
 import java.nio.ByteOrder;
@@ -14,10 +14,10 @@ public class FrameCodec extends ChannelDuplexHandler {
 
     private static final int MAGIC = 0x31305456; // "VT01"
 
-    private final Logger log;
+    private final PrintfLogger log;
     private ByteBuf bin;
 
-    public FrameCodec(Logger log) {
+    public FrameCodec(PrintfLogger log) {
         this.log = log;
     }
 
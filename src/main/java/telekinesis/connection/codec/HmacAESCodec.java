@@ -0,0 +1,144 @@
+package telekinesis.connection.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.util.ReferenceCountUtil;
+import telekinesis.model.steam.EUniverse;
+
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+
+// The channel encryption used when the server sends a challenge with the encrypt request.
+// Instead of a random IV every message carries 3 random bytes and the first 13 bytes of an HMAC-SHA1
+// over them and the plain text, keyed with the first half of the session key. The receiver checks
+// the HMAC after decrypting, a connection that fails the check or doesn't decrypt is closed.
+public class HmacAESCodec extends AESCodec {
+
+    private static final int IV_RANDOM_LENGTH = 3;
+    private static final int IV_MAC_LENGTH = BLOCK_SIZE - IV_RANDOM_LENGTH;
+
+    private final byte[] challenge;
+    private final SecretKeySpec hmacKey;
+    private final Mac mac;
+
+    // only used on the event loop of the channel
+    private final byte[] iv = new byte[BLOCK_SIZE];
+    private final byte[] macOut;
+
+    public HmacAESCodec(EUniverse universe, byte[] challenge) throws IOException {
+        super(universe);
+        this.challenge = challenge.clone();
+        this.hmacKey = new SecretKeySpec(aesKey.getEncoded(), 0, 16, "HmacSHA1");
+        try {
+            // keyed once here, doFinal leaves it ready for the next message
+            mac = Mac.getInstance("HmacSHA1");
+            mac.init(hmacKey);
+        } catch (GeneralSecurityException e) {
+            throw new IOException(e);
+        }
+        macOut = new byte[mac.getMacLength()];
+    }
+
+    @Override
+    byte[] keyMaterial() {
+        byte[] key = aesKey.getEncoded();
+        byte[] material = Arrays.copyOf(key, key.length + challenge.length);
+        System.arraycopy(challenge, 0, material, key.length, challenge.length);
+        return material;
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+        try {
+            ByteBuf in = (ByteBuf) msg;
+            int length = in.readableBytes() - BLOCK_SIZE;
+            if (length < 0) {
+                throw new IOException("encrypted message is shorter than its IV");
+            }
+            int inOffset = in.arrayOffset() + in.readerIndex();
+            Ciphers ciphers = ciphers();
+            Cipher cIv = ciphers.nativeIv;
+            Cipher cMain = ciphers.nativeMain;
+
+            cIv.init(Cipher.DECRYPT_MODE, aesKey);
+            cIv.doFinal(in.array(), inOffset, BLOCK_SIZE, iv, 0);
+            cMain.init(Cipher.DECRYPT_MODE, aesKey, new IvParameterSpec(iv));
+
+            ByteBuf out = ctx.alloc().heapBuffer(length).order(ByteOrder.LITTLE_ENDIAN);
+            boolean valid = false;
+            try {
+                int n = cMain.doFinal(in.array(), inOffset + BLOCK_SIZE, length, out.array(), out.arrayOffset());
+                out.writerIndex(n);
+
+                mac.update(iv, IV_MAC_LENGTH, IV_RANDOM_LENGTH);
+                mac.update(out.array(), out.arrayOffset(), n);
+                mac.doFinal(macOut, 0);
+                valid = macMatches();
+            } finally {
+                if (!valid) {
+                    // bad padding or a bad HMAC, either way the stream can't be trusted any more
+                    out.release();
+                    ctx.close();
+                }
+            }
+            if (!valid) {
+                throw new IOException("encrypted message failed the HMAC check");
+            }
+
+            ctx.fireChannelRead(out);
+        } finally {
+            ReferenceCountUtil.release(msg);
+        }
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        try {
+            ByteBuf in = (ByteBuf) msg;
+            int length = in.readableBytes();
+            int inOffset = in.arrayOffset() + in.readerIndex();
+            Ciphers ciphers = ciphers();
+            Cipher cIv = ciphers.nativeIv;
+            Cipher cMain = ciphers.nativeMain;
+
+            int random = ciphers.random.nextInt();
+            iv[IV_MAC_LENGTH] = (byte) random;
+            iv[IV_MAC_LENGTH + 1] = (byte) (random >>> 8);
+            iv[IV_MAC_LENGTH + 2] = (byte) (random >>> 16);
+            mac.update(iv, IV_MAC_LENGTH, IV_RANDOM_LENGTH);
+            mac.update(in.array(), inOffset, length);
+            mac.doFinal(macOut, 0);
+            System.arraycopy(macOut, 0, iv, 0, IV_MAC_LENGTH);
+
+            cIv.init(Cipher.ENCRYPT_MODE, aesKey);
+            cMain.init(Cipher.ENCRYPT_MODE, aesKey, new IvParameterSpec(iv));
+
+            ByteBuf out = ctx.alloc().heapBuffer(BLOCK_SIZE + cMain.getOutputSize(length)).order(ByteOrder.LITTLE_ENDIAN);
+            cIv.doFinal(iv, 0, BLOCK_SIZE, out.array(), out.arrayOffset());
+            int n = cMain.doFinal(in.array(), inOffset, length, out.array(), out.arrayOffset() + BLOCK_SIZE);
+
+            out.writerIndex(n + BLOCK_SIZE);
+
+            ctx.write(out, promise);
+        } finally {
+            ReferenceCountUtil.release(msg);
+        }
+    }
+
+    // constant time, the first bytes of the IV have to equal the start of the HMAC
+    private boolean macMatches() {
+        int diff = 0;
+        for (int i = 0; i < IV_MAC_LENGTH; i++) {
+            diff |= macOut[i] ^ iv[i];
+        }
+        return diff == 0;
+    }
+
+}
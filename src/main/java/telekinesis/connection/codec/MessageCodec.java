@@ -1,18 +1,21 @@
 package telekinesis.connection.codec;
 
-import com.google.protobuf.ByteString;
-import com.google.protobuf.GeneratedMessage;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.Parser;
+import com.google.protobuf.UnsafeByteOperations;
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufInputStream;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelDuplexHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelPromise;
 import io.netty.util.ReferenceCountUtil;
-import org.slf4j.Logger;
 import telekinesis.connection.Message;
+import telekinesis.connection.MessageTracer;
+import telekinesis.logger.PrintfLogger;
 import telekinesis.message.ClientMessageTypeRegistry;
 import telekinesis.message.MessageFlag;
+import telekinesis.message.proto.ProtoBufUtil;
 import telekinesis.message.proto.ProtoHeader;
 import telekinesis.message.proto.generated.steam.SM_Base;
 import telekinesis.message.proto.generated.steam.SM_ClientServer;
@@ -30,19 +33,39 @@ import java.util.zip.ZipInputStream;
 
 public class MessageCodec extends ChannelDuplexHandler {
 
-    private final Logger log;
+    // looking up parseFrom reflectively for every message is too slow for the GC traffic
+    private static final ClassValue<Parser<?>> PARSERS = new ClassValue<Parser<?>>() {
+        @Override
+        protected Parser<?> computeValue(Class<?> type) {
+            try {
+                return ((MessageLite) type.getMethod("getDefaultInstance").invoke(null)).getParserForType();
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalArgumentException(e);
+            }
+        }
+    };
+
+    private final PrintfLogger log;
     private final ClientMessageTypeRegistry registry;
+    private MessageTracer tracer;
 
-    public MessageCodec(Logger log, ClientMessageTypeRegistry registry) {
+    public MessageCodec(PrintfLogger log, ClientMessageTypeRegistry registry) {
         this.log = log;
         this.registry = registry;
     }
 
+    public void setTracer(MessageTracer tracer) {
+        this.tracer = tracer;
+    }
+
     @Override
     public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
         try {
             ByteBuf in = (ByteBuf) msg;
+            int size = in.readableBytes();
             int type = in.readInt();
+            boolean traced = tracer != null && tracer.sample(AppId.STEAM, type);
+            long start = traced ? System.nanoTime() : 0L;
             if (!registry.knowsMessageType(AppId.STEAM, type)) {
                 log.debug("no decoder for message type %s", EMsg.n(type & MessageFlag.MASK));
                 in.skipBytes(in.readableBytes());
@@ -55,6 +78,9 @@ public class MessageCodec extends ChannelDuplexHandler {
                 log.warn("discarding %d extra bytes not decoded by message", in.readableBytes());
                 in.skipBytes(in.readableBytes());
             }
+            if (traced) {
+                tracer.record(false, AppId.STEAM, type, header.getSourceJobId(), header.getTargetJobId(), size, System.nanoTime() - start, body);
+            }
             if (body instanceof SM_Base.CMsgMulti) {
                 unpackMulti(ctx, (SM_Base.CMsgMulti) body);
             } else if (body instanceof SM_ClientServer.CMsgGCClient) {
@@ -68,12 +94,19 @@ public class MessageCodec extends ChannelDuplexHandler {
                     log.error("embedded GC has no proto header! Implement this!");
                 }
                 log.debug("decoding GC payload type %d for app id %d", gcBody.getMsgtype() & MessageFlag.MASK, gcBody.getAppid());
-
-                ByteBuf payloadBuf = Unpooled.wrappedBuffer(gcBody.getPayload().asReadOnlyByteBuffer()).order(ByteOrder.LITTLE_ENDIAN);
-                //log.info(ByteBufUtil.hexDump(payloadBuf));
-                payloadBuf.readInt(); // skip over payload type
-                header = instantiateAndDecodeObject(registry.getHeaderClassForMessageType(gcBody.getAppid(), payloadType), payloadBuf);
-                body = instantiateAndDecodeObject(registry.getBodyClassForMessageType(gcBody.getAppid(), payloadType), payloadBuf);
+                boolean gcTraced = tracer != null && tracer.sample(gcBody.getAppid(), payloadType);
+                long gcStart = gcTraced ? System.nanoTime() : 0L;
+
+                // the payload aliases the frame, header and body are decoded from it without copying
+                CodedInputStream payload = ProtoBufUtil.newAliasingInput(gcBody.getPayload());
+                payload.readRawLittleEndian32(); // skip over payload type
+                ProtoHeader gcHeader = new ProtoHeader();
+                gcHeader.decode(payload);
+                header = gcHeader;
+                body = PARSERS.get(registry.getBodyClassForMessageType(gcBody.getAppid(), payloadType)).parseFrom(payload);
+                if (gcTraced) {
+                    tracer.record(false, gcBody.getAppid(), payloadType, header.getSourceJobId(), header.getTargetJobId(), gcBody.getPayload().size(), System.nanoTime() - gcStart, body);
+                }
                 ctx.fireChannelRead(new Message(gcBody.getAppid(), header, body));
             } else {
                 ctx.fireChannelRead(new Message(-1, header, body));
@@ -88,9 +121,10 @@ public class MessageCodec extends ChannelDuplexHandler {
             C object = objectClass.newInstance();
             ((Decodable) object).decode(in);
             return object;
-        } else if (GeneratedMessage.class.isAssignableFrom(objectClass)) {
-            GeneratedMessage object = (GeneratedMessage) objectClass.getDeclaredMethod("parseFrom", InputStream.class).invoke(null, new ByteBufInputStream(in));
-            return (C) object;
+        } else if (MessageLite.class.isAssignableFrom(objectClass)) {
+            C object = objectClass.cast(PARSERS.get(objectClass).parseFrom(ProtoBufUtil.newAliasingInput(in)));
+            in.skipBytes(in.readableBytes());
+            return object;
         } else {
             throw new IOException("don't know how to decode a " + objectClass.getName());
         }
@@ -108,7 +142,8 @@ public class MessageCodec extends ChannelDuplexHandler {
         }
         ByteBuf buf = null;
         try {
-            buf = ctx.alloc().buffer(isSize).order(ByteOrder.LITTLE_ENDIAN);
+            // unpooled, so the inner messages can alias it
+            buf = Unpooled.buffer(isSize).order(ByteOrder.LITTLE_ENDIAN);
             while (isSize > 0) {
                 isSize -= buf.writeBytes(is, isSize);
             }
@@ -132,12 +167,23 @@ public class MessageCodec extends ChannelDuplexHandler {
                     String.format("unable to find message type for body class %s and app id %s", msg.getBody().getClass().getName(), msg.getAppId())
             );
         }
+        boolean traced = tracer != null && tracer.sample(msg.getAppId(), type);
+        long start = traced ? System.nanoTime() : 0L;
+        // taken before the job ids are moved into the GC header
+        int tracedAppId = msg.getAppId();
+        int tracedType = type;
+        long sourceJobId = msg.getHeader().getSourceJobId();
+        long targetJobId = msg.getHeader().getTargetJobId();
+        Object tracedBody = msg.getBody();
         if ((type & MessageFlag.GC) != 0) {
             type = type & ~MessageFlag.GC;
 
+            // the GC correlates jobs by the ids in its own header, not the ones of the wrapper
             ProtoHeader innerHeader = new ProtoHeader();
+            innerHeader.setSourceJobId(msg.getHeader().getSourceJobId());
+            innerHeader.setTargetJobId(msg.getHeader().getTargetJobId());
 
-            ByteBuf innerOut = ctx.alloc().heapBuffer().order(ByteOrder.LITTLE_ENDIAN);
+            ByteBuf innerOut = Unpooled.buffer().order(ByteOrder.LITTLE_ENDIAN);
             innerOut.writeInt(type);
             encodeObject(innerHeader, innerOut);
             encodeObject(msg.getBody(), innerOut);
@@ -145,9 +191,11 @@ public class MessageCodec extends ChannelDuplexHandler {
             SM_ClientServer.CMsgGCClient.Builder newBody = SM_ClientServer.CMsgGCClient.newBuilder();
             newBody.setAppid(msg.getAppId());
             newBody.setMsgtype(type);
-            newBody.setPayload(ByteString.copyFrom(innerOut.nioBuffer()));
+            newBody.setPayload(UnsafeByteOperations.unsafeWrap(innerOut.array(), innerOut.arrayOffset() + innerOut.readerIndex(), innerOut.readableBytes()));
 
             msg.getHeader().setRoutingAppId(msg.getAppId());
+            msg.getHeader().setSourceJobId(-1L);
+            msg.getHeader().setTargetJobId(-1L);
             msg = msg.withReplacedBody(newBody);
 
             type = EMsg.ClientToGC.v() | MessageFlag.PROTO;
@@ -157,18 +205,19 @@ public class MessageCodec extends ChannelDuplexHandler {
         out.writeInt(type);
         encodeObject(msg.getHeader(), out);
         encodeObject(msg.getBody(), out);
-        ctx.writeAndFlush(out, promise);
+        if (traced) {
+            tracer.record(true, tracedAppId, tracedType, sourceJobId, targetJobId, out.readableBytes(), System.nanoTime() - start, tracedBody);
+        }
+        ctx.write(out, promise);
     }
 
     protected void encodeObject(Object object, ByteBuf out) throws IOException {
         if (object instanceof Encodable) {
             ((Encodable) object).encode(out);
-        } else if (object instanceof GeneratedMessage.Builder) {
-            byte[] buf = ((GeneratedMessage.Builder) object).build().toByteArray();
-            out.writeBytes(buf);
-        } else if (object instanceof GeneratedMessage) {
-            byte[] buf = ((GeneratedMessage) object).toByteArray();
-            out.writeBytes(buf);
+        } else if (object instanceof MessageLite.Builder) {
+            ProtoBufUtil.writeTo(((MessageLite.Builder) object).build(), out);
+        } else if (object instanceof MessageLite) {
+            ProtoBufUtil.writeTo((MessageLite) object, out);
         } else {
             throw new IOException("don't know how to encode a " + object.getClass().getName());
         }
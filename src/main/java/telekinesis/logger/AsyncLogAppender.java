@@ -0,0 +1,176 @@
+package telekinesis.logger;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+// Takes formatting and the slf4j call off the logging thread. Callers capture level, format and
+// arguments into a preallocated slot of a bounded ring, a single daemon thread renders them.
+// Arguments are formatted later, so they should not be mutated after the log call.
+// When the ring is full the call falls back to logging synchronously.
+public class AsyncLogAppender {
+
+    private static final long IDLE_PARK_NANOS = 1000000L;
+
+    private final int mask;
+    private final Entry[] entries;
+    private final AtomicLongArray sequences;
+    private final AtomicLong enqueuePosition = new AtomicLong();
+    private final AtomicLong overflows = new AtomicLong();
+    private long dequeuePosition;
+
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    public AsyncLogAppender(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.mask = size - 1;
+        this.entries = new Entry[size];
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            entries[i] = new Entry();
+            sequences.set(i, i);
+        }
+        thread = new Thread(this::run, "telekinesis-log");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public long getOverflows() {
+        return overflows.get();
+    }
+
+    // stops the render thread after everything already queued has been logged
+    public void shutdown() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(thread);
+        thread.join();
+    }
+
+    // returns a slot position to fill and publish, or -1 if the ring is full
+    long claim() {
+        if (!running) {
+            return -1L;
+        }
+        while (true) {
+            long position = enqueuePosition.get();
+            long sequence = sequences.get((int) position & mask);
+            if (sequence == position) {
+                if (enqueuePosition.compareAndSet(position, position + 1)) {
+                    return position;
+                }
+            } else if (sequence < position) {
+                overflows.incrementAndGet();
+                return -1L;
+            }
+        }
+    }
+
+    Entry entry(long position) {
+        return entries[(int) position & mask];
+    }
+
+    void publish(long position) {
+        sequences.lazySet((int) position & mask, position + 1);
+    }
+
+    private void run() {
+        while (true) {
+            int slot = (int) dequeuePosition & mask;
+            if (sequences.get(slot) == dequeuePosition + 1) {
+                Entry entry = entries[slot];
+                try {
+                    entry.render();
+                } catch (RuntimeException e) {
+                    // a broken toString() must not kill the render thread
+                }
+                entry.clear();
+                sequences.lazySet(slot, dequeuePosition + mask + 1);
+                dequeuePosition++;
+            } else if (running) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            } else if (enqueuePosition.get() == dequeuePosition) {
+                return;
+            }
+        }
+    }
+
+    static final class Entry {
+
+        private static final byte OBJECT = 0;
+        private static final byte LONG = 1;
+        private static final byte DOUBLE = 2;
+
+        private PrintfLogger logger;
+        private int level;
+        private String format;
+        private int count;
+        private final byte[] kinds = new byte[2];
+        private final Object[] objects = new Object[2];
+        private final long[] primitives = new long[2];
+        private Object[] varargs;
+
+        Entry start(PrintfLogger logger, int level, String format) {
+            this.logger = logger;
+            this.level = level;
+            this.format = format;
+            this.count = 0;
+            return this;
+        }
+
+        Entry arg(Object value) {
+            kinds[count] = OBJECT;
+            objects[count++] = value;
+            return this;
+        }
+
+        Entry arg(long value) {
+            kinds[count] = LONG;
+            primitives[count++] = value;
+            return this;
+        }
+
+        Entry arg(double value) {
+            kinds[count] = DOUBLE;
+            primitives[count++] = Double.doubleToRawLongBits(value);
+            return this;
+        }
+
+        Entry args(Object[] values) {
+            varargs = values;
+            return this;
+        }
+
+        private void render() {
+            LogLine line = LogLine.start(format);
+            try {
+                for (int i = 0; i < count; i++) {
+                    switch (kinds[i]) {
+                        case LONG:
+                            line.arg(primitives[i]);
+                            break;
+                        case DOUBLE:
+                            line.arg(Double.longBitsToDouble(primitives[i]));
+                            break;
+                        default:
+                            line.arg(objects[i]);
+                            break;
+                    }
+                }
+                line.args(varargs);
+                logger.emit(level, null, line);
+            } finally {
+                line.reset();
+            }
+        }
+
+        private void clear() {
+            logger = null;
+            format = null;
+            objects[0] = null;
+            objects[1] = null;
+            varargs = null;
+        }
+    }
+
+}
@@ -0,0 +1,188 @@
+package telekinesis.logger;
+
+import java.util.IllegalFormatException;
+
+// Printf style formatting into a reused per thread StringBuilder. Plain %s and %d are rendered
+// directly, primitives without boxing; anything with flags, width or precision goes to String.format.
+// An argument left over after the last conversion is taken as the throwable of the log call.
+// A toString() that throws is rendered as [FAILED toString()], like slf4j does, and whoever
+// renders a line resets it in a finally block so a failure never leaves the thread's line in use.
+final class LogLine {
+
+    private static final ThreadLocal<LogLine> LINES = ThreadLocal.withInitial(LogLine::new);
+
+    private static final int NONE = -1;
+    private static final int COMPLEX = 0;
+
+    private final StringBuilder sb = new StringBuilder(128);
+    private String format;
+    private int pos;
+    private String spec;
+    private Throwable throwable;
+
+    static LogLine start(String format) {
+        LogLine line = LINES.get();
+        if (line.format != null) {
+            // a toString() that logs itself, don't clobber the line in progress
+            line = new LogLine();
+        }
+        line.format = format;
+        line.pos = 0;
+        line.sb.setLength(0);
+        line.throwable = null;
+        return line;
+    }
+
+    LogLine arg(Object value) {
+        switch (nextSpec()) {
+            case NONE:
+                if (value instanceof Throwable) {
+                    throwable = (Throwable) value;
+                }
+                break;
+            case 'd':
+                if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                    sb.append(((Number) value).longValue());
+                    break;
+                }
+                formatSpec("%d", value);
+                break;
+            case 's':
+                append(value);
+                break;
+            default:
+                formatSpec(spec, value);
+                break;
+        }
+        return this;
+    }
+
+    LogLine arg(long value) {
+        switch (nextSpec()) {
+            case NONE:
+                break;
+            case 'd':
+            case 's':
+                sb.append(value);
+                break;
+            default:
+                formatSpec(spec, value);
+                break;
+        }
+        return this;
+    }
+
+    LogLine arg(double value) {
+        switch (nextSpec()) {
+            case NONE:
+                break;
+            case 's':
+                sb.append(value);
+                break;
+            case 'd':
+                formatSpec("%d", value);
+                break;
+            default:
+                formatSpec(spec, value);
+                break;
+        }
+        return this;
+    }
+
+    LogLine args(Object[] values) {
+        if (values != null) {
+            for (Object value : values) {
+                arg(value);
+            }
+        }
+        return this;
+    }
+
+    Throwable getThrowable() {
+        return throwable;
+    }
+
+    String finish() {
+        // conversions without an argument are copied verbatim
+        int c;
+        while ((c = nextSpec()) != NONE) {
+            if (c == COMPLEX) {
+                sb.append(spec);
+            } else {
+                sb.append('%').append((char) c);
+            }
+        }
+        return sb.toString();
+    }
+
+    void reset() {
+        format = null;
+        spec = null;
+        if (sb.capacity() > 4096) {
+            sb.setLength(0);
+            sb.trimToSize();
+        }
+    }
+
+    // copies literal text up to the next conversion, returns 's', 'd', COMPLEX or NONE
+    private int nextSpec() {
+        int n = format.length();
+        while (pos < n) {
+            int p = format.indexOf('%', pos);
+            if (p < 0 || p + 1 == n) {
+                sb.append(format, pos, n);
+                pos = n;
+                break;
+            }
+            sb.append(format, pos, p);
+            char next = format.charAt(p + 1);
+            if (next == '%') {
+                sb.append('%');
+                pos = p + 2;
+            } else if (next == 'n') {
+                sb.append(System.lineSeparator());
+                pos = p + 2;
+            } else if (next == 's' || next == 'd') {
+                pos = p + 2;
+                return next;
+            } else {
+                int end = p + 1;
+                while (end < n && !Character.isLetter(format.charAt(end))) {
+                    end++;
+                }
+                if (end < n && (format.charAt(end) == 't' || format.charAt(end) == 'T')) {
+                    end++;
+                }
+                end = Math.min(end + 1, n);
+                spec = format.substring(p, end);
+                pos = end;
+                return COMPLEX;
+            }
+        }
+        return NONE;
+    }
+
+    private void formatSpec(String spec, Object value) {
+        String formatted;
+        try {
+            formatted = String.format(spec, value);
+        } catch (IllegalFormatException e) {
+            append(value);
+            return;
+        } catch (RuntimeException e) {
+            formatted = "[FAILED toString()]";
+        }
+        sb.append(formatted);
+    }
+
+    private void append(Object value) {
+        String s;
+        try {
+            s = String.valueOf(value);
+        } catch (RuntimeException e) {
+            s = "[FAILED toString()]";
+        }
+        sb.append(s);
+    }
+
+}
@@ -3,18 +3,22 @@ package telekinesis.logger;
 import org.slf4j.Logger;
 import org.slf4j.Marker;
 
+// slf4j logger taking printf style format strings. Formatting only happens after the level check,
+// the primitive overloads keep hot call sites from boxing their arguments.
 public class PrintfLogger implements Logger {
 
+    static final int TRACE = 0;
+    static final int DEBUG = 1;
+    static final int INFO = 2;
+    static final int WARN = 3;
+    static final int ERROR = 4;
+
     private final Logger delegate;
 
     public PrintfLogger(Logger delegate) {
         this.delegate = delegate;
     }
 
-    private String format(String fmt, Object... params) {
-        return String.format(fmt, params);
-    }
-
     @Override
     public String getName() {
         return delegate.getName();
@@ -35,21 +39,51 @@ public class PrintfLogger implements Logger {
     @Override
     public void trace(String s, Object o) {
         if (delegate.isTraceEnabled()) {
-            delegate.trace(format(s, o));
+            log(TRACE, s, o);
+        }
+    }
+
+    public void trace(String s, long l) {
+        if (delegate.isTraceEnabled()) {
+            log(TRACE, s, l);
+        }
+    }
+
+    public void trace(String s, double d) {
+        if (delegate.isTraceEnabled()) {
+            log(TRACE, s, d);
         }
     }
 
     @Override
     public void trace(String s, Object o, Object o1) {
         if (delegate.isTraceEnabled()) {
-            delegate.trace(format(s, o, o1));
+            log(TRACE, s, o, o1);
+        }
+    }
+
+    public void trace(String s, long l, long l1) {
+        if (delegate.isTraceEnabled()) {
+            log(TRACE, s, l, l1);
+        }
+    }
+
+    public void trace(String s, Object o, long l) {
+        if (delegate.isTraceEnabled()) {
+            log(TRACE, s, o, l);
+        }
+    }
+
+    public void trace(String s, long l, Object o) {
+        if (delegate.isTraceEnabled()) {
+            log(TRACE, s, l, o);
         }
     }
 
     @Override
     public void trace(String s, Object... objects) {
         if (delegate.isTraceEnabled()) {
-            delegate.trace(format(s, objects));
+            log(TRACE, s, objects);
         }
     }
 
@@ -73,21 +107,21 @@ public class PrintfLogger implements Logger {
     @Override
     public void trace(Marker marker, String s, Object o) {
         if (delegate.isTraceEnabled(marker)) {
-            delegate.trace(marker, format(s, o));
+            emit(TRACE, marker, LogLine.start(s).arg(o));
         }
     }
 
     @Override
     public void trace(Marker marker, String s, Object o, Object o1) {
         if (delegate.isTraceEnabled(marker)) {
-            delegate.trace(marker, format(s, o, o1));
+            emit(TRACE, marker, LogLine.start(s).arg(o).arg(o1));
         }
     }
 
     @Override
     public void trace(Marker marker, String s, Object... objects) {
         if (delegate.isTraceEnabled(marker)) {
-            delegate.trace(marker, format(s, objects));
+            emit(TRACE, marker, LogLine.start(s).args(objects));
         }
     }
 
@@ -103,27 +137,59 @@ public class PrintfLogger implements Logger {
 
     @Override
     public void debug(String s) {
-        delegate.debug(s);
+        if (delegate.isDebugEnabled()) {
+            delegate.debug(s);
+        }
     }
 
     @Override
     public void debug(String s, Object o) {
         if (delegate.isDebugEnabled()) {
-            delegate.debug(format(s, o));
+            log(DEBUG, s, o);
+        }
+    }
+
+    public void debug(String s, long l) {
+        if (delegate.isDebugEnabled()) {
+            log(DEBUG, s, l);
+        }
+    }
+
+    public void debug(String s, double d) {
+        if (delegate.isDebugEnabled()) {
+            log(DEBUG, s, d);
         }
     }
 
     @Override
     public void debug(String s, Object o, Object o1) {
         if (delegate.isDebugEnabled()) {
-            delegate.debug(format(s, o, o1));
+            log(DEBUG, s, o, o1);
+        }
+    }
+
+    public void debug(String s, long l, long l1) {
+        if (delegate.isDebugEnabled()) {
+            log(DEBUG, s, l, l1);
+        }
+    }
+
+    public void debug(String s, Object o, long l) {
+        if (delegate.isDebugEnabled()) {
+            log(DEBUG, s, o, l);
+        }
+    }
+
+    public void debug(String s, long l, Object o) {
+        if (delegate.isDebugEnabled()) {
+            log(DEBUG, s, l, o);
         }
     }
 
     @Override
     public void debug(String s, Object... objects) {
         if (delegate.isDebugEnabled()) {
-            delegate.debug(format(s, objects));
+            log(DEBUG, s, objects);
         }
     }
 
@@ -139,35 +205,35 @@ public class PrintfLogger implements Logger {
 
     @Override
     public void debug(Marker marker, String s) {
-        delegate.debug(marker, s);
+        if (delegate.isDebugEnabled(marker)) {
+            delegate.debug(marker, s);
+        }
     }
 
     @Override
     public void debug(Marker marker, String s, Object o) {
         if (delegate.isDebugEnabled(marker)) {
-            delegate.debug(marker, format(s, o));
+            emit(DEBUG, marker, LogLine.start(s).arg(o));
         }
     }
 
     @Override
     public void debug(Marker marker, String s, Object o, Object o1) {
         if (delegate.isDebugEnabled(marker)) {
-            delegate.debug(marker, format(s, o, o1));
+            emit(DEBUG, marker, LogLine.start(s).arg(o).arg(o1));
         }
     }
 
     @Override
     public void debug(Marker marker, String s, Object... objects) {
         if (delegate.isDebugEnabled(marker)) {
-            delegate.debug(marker, format(s, objects));
+            emit(DEBUG, marker, LogLine.start(s).args(objects));
         }
     }
 
     @Override
     public void debug(Marker marker, String s, Throwable throwable) {
-        if (delegate.isDebugEnabled(marker)) {
-            delegate.debug(marker, s, throwable);
-        }
+        delegate.debug(marker, s, throwable);
     }
 
     @Override
@@ -177,27 +243,59 @@ public class PrintfLogger implements Logger {
 
     @Override
     public void info(String s) {
-        delegate.info(s);
+        if (delegate.isInfoEnabled()) {
+            delegate.info(s);
+        }
     }
 
     @Override
     public void info(String s, Object o) {
         if (delegate.isInfoEnabled()) {
-            delegate.info(format(s, o));
+            log(INFO, s, o);
+        }
+    }
+
+    public void info(String s, long l) {
+        if (delegate.isInfoEnabled()) {
+            log(INFO, s, l);
+        }
+    }
+
+    public void info(String s, double d) {
+        if (delegate.isInfoEnabled()) {
+            log(INFO, s, d);
         }
     }
 
     @Override
     public void info(String s, Object o, Object o1) {
         if (delegate.isInfoEnabled()) {
-            delegate.info(format(s, o, o1));
+            log(INFO, s, o, o1);
+        }
+    }
+
+    public void info(String s, long l, long l1) {
+        if (delegate.isInfoEnabled()) {
+            log(INFO, s, l, l1);
+        }
+    }
+
+    public void info(String s, Object o, long l) {
+        if (delegate.isInfoEnabled()) {
+            log(INFO, s, o, l);
+        }
+    }
+
+    public void info(String s, long l, Object o) {
+        if (delegate.isInfoEnabled()) {
+            log(INFO, s, l, o);
         }
     }
 
     @Override
     public void info(String s, Object... objects) {
         if (delegate.isInfoEnabled()) {
-            delegate.info(format(s, objects));
+            log(INFO, s, objects);
         }
     }
 
@@ -221,21 +319,21 @@ public class PrintfLogger implements Logger {
     @Override
     public void info(Marker marker, String s, Object o) {
         if (delegate.isInfoEnabled(marker)) {
-            delegate.info(marker, format(s, o));
+            emit(INFO, marker, LogLine.start(s).arg(o));
         }
     }
 
     @Override
     public void info(Marker marker, String s, Object o, Object o1) {
         if (delegate.isInfoEnabled(marker)) {
-            delegate.info(marker, format(s, o, o1));
+            emit(INFO, marker, LogLine.start(s).arg(o).arg(o1));
         }
     }
 
     @Override
     public void info(Marker marker, String s, Object... objects) {
         if (delegate.isInfoEnabled(marker)) {
-            delegate.info(marker, format(s, objects));
+            emit(INFO, marker, LogLine.start(s).args(objects));
         }
     }
 
@@ -251,27 +349,59 @@ public class PrintfLogger implements Logger {
 
     @Override
     public void warn(String s) {
-        delegate.warn(s);
+        if (delegate.isWarnEnabled()) {
+            delegate.warn(s);
+        }
     }
 
     @Override
     public void warn(String s, Object o) {
         if (delegate.isWarnEnabled()) {
-            delegate.warn(format(s, o));
+            log(WARN, s, o);
         }
     }
 
-    @Override
-    public void warn(String s, Object... objects) {
+    public void warn(String s, long l) {
+        if (delegate.isWarnEnabled()) {
+            log(WARN, s, l);
+        }
+    }
+
+    public void warn(String s, double d) {
         if (delegate.isWarnEnabled()) {
-            delegate.warn(format(s, objects));
+            log(WARN, s, d);
         }
     }
 
     @Override
     public void warn(String s, Object o, Object o1) {
         if (delegate.isWarnEnabled()) {
-            delegate.warn(format(s, o, o1));
+            log(WARN, s, o, o1);
+        }
+    }
+
+    public void warn(String s, long l, long l1) {
+        if (delegate.isWarnEnabled()) {
+            log(WARN, s, l, l1);
+        }
+    }
+
+    public void warn(String s, Object o, long l) {
+        if (delegate.isWarnEnabled()) {
+            log(WARN, s, o, l);
+        }
+    }
+
+    public void warn(String s, long l, Object o) {
+        if (delegate.isWarnEnabled()) {
+            log(WARN, s, l, o);
+        }
+    }
+
+    @Override
+    public void warn(String s, Object... objects) {
+        if (delegate.isWarnEnabled()) {
+            log(WARN, s, objects);
         }
     }
 
@@ -295,21 +425,21 @@ public class PrintfLogger implements Logger {
     @Override
     public void warn(Marker marker, String s, Object o) {
         if (delegate.isWarnEnabled(marker)) {
-            delegate.warn(marker, format(s, o));
+            emit(WARN, marker, LogLine.start(s).arg(o));
         }
     }
 
     @Override
     public void warn(Marker marker, String s, Object o, Object o1) {
         if (delegate.isWarnEnabled(marker)) {
-            delegate.warn(marker, format(s, o, o1));
+            emit(WARN, marker, LogLine.start(s).arg(o).arg(o1));
         }
     }
 
     @Override
     public void warn(Marker marker, String s, Object... objects) {
         if (delegate.isWarnEnabled(marker)) {
-            delegate.warn(marker, format(s, objects));
+            emit(WARN, marker, LogLine.start(s).args(objects));
         }
     }
 
@@ -325,27 +455,59 @@ public class PrintfLogger implements Logger {
 
     @Override
     public void error(String s) {
-        delegate.error(s);
+        if (delegate.isErrorEnabled()) {
+            delegate.error(s);
+        }
     }
 
     @Override
     public void error(String s, Object o) {
         if (delegate.isErrorEnabled()) {
-            delegate.error(format(s, o));
+            log(ERROR, s, o);
+        }
+    }
+
+    public void error(String s, long l) {
+        if (delegate.isErrorEnabled()) {
+            log(ERROR, s, l);
+        }
+    }
+
+    public void error(String s, double d) {
+        if (delegate.isErrorEnabled()) {
+            log(ERROR, s, d);
         }
     }
 
     @Override
     public void error(String s, Object o, Object o1) {
         if (delegate.isErrorEnabled()) {
-            delegate.error(format(s, o, o1));
+            log(ERROR, s, o, o1);
+        }
+    }
+
+    public void error(String s, long l, long l1) {
+        if (delegate.isErrorEnabled()) {
+            log(ERROR, s, l, l1);
+        }
+    }
+
+    public void error(String s, Object o, long l) {
+        if (delegate.isErrorEnabled()) {
+            log(ERROR, s, o, l);
+        }
+    }
+
+    public void error(String s, long l, Object o) {
+        if (delegate.isErrorEnabled()) {
+            log(ERROR, s, l, o);
         }
     }
 
     @Override
     public void error(String s, Object... objects) {
         if (delegate.isErrorEnabled()) {
-            delegate.error(format(s, objects));
+            log(ERROR, s, objects);
         }
     }
 
@@ -361,27 +523,29 @@ public class PrintfLogger implements Logger {
 
     @Override
     public void error(Marker marker, String s) {
-        delegate.error(marker, s);
+        if (delegate.isErrorEnabled(marker)) {
+            delegate.error(marker, s);
+        }
     }
 
     @Override
     public void error(Marker marker, String s, Object o) {
         if (delegate.isErrorEnabled(marker)) {
-            delegate.error(marker, format(s, o));
+            emit(ERROR, marker, LogLine.start(s).arg(o));
         }
     }
 
     @Override
     public void error(Marker marker, String s, Object o, Object o1) {
         if (delegate.isErrorEnabled(marker)) {
-            delegate.error(marker, format(s, o, o1));
+            emit(ERROR, marker, LogLine.start(s).arg(o).arg(o1));
         }
     }
 
     @Override
     public void error(Marker marker, String s, Object... objects) {
         if (delegate.isErrorEnabled(marker)) {
-            delegate.error(marker, format(s, objects));
+            emit(ERROR, marker, LogLine.start(s).args(objects));
         }
     }
 
@@ -389,4 +553,141 @@ public class PrintfLogger implements Logger {
     public void error(Marker marker, String s, Throwable throwable) {
         delegate.error(marker, s, throwable);
     }
+
+    private void log(int level, String s, Object o) {
+        AsyncLogAppender async = PrintfLoggerFactory.getAsyncAppender();
+        long position = async != null ? async.claim() : -1L;
+        if (position >= 0L) {
+            async.entry(position).start(this, level, s).arg(o);
+            async.publish(position);
+        } else {
+            emit(level, null, LogLine.start(s).arg(o));
+        }
+    }
+
+    private void log(int level, String s, long l) {
+        AsyncLogAppender async = PrintfLoggerFactory.getAsyncAppender();
+        long position = async != null ? async.claim() : -1L;
+        if (position >= 0L) {
+            async.entry(position).start(this, level, s).arg(l);
+            async.publish(position);
+        } else {
+            emit(level, null, LogLine.start(s).arg(l));
+        }
+    }
+
+    private void log(int level, String s, double d) {
+        AsyncLogAppender async = PrintfLoggerFactory.getAsyncAppender();
+        long position = async != null ? async.claim() : -1L;
+        if (position >= 0L) {
+            async.entry(position).start(this, level, s).arg(d);
+            async.publish(position);
+        } else {
+            emit(level, null, LogLine.start(s).arg(d));
+        }
+    }
+
+    private void log(int level, String s, Object o, Object o1) {
+        AsyncLogAppender async = PrintfLoggerFactory.getAsyncAppender();
+        long position = async != null ? async.claim() : -1L;
+        if (position >= 0L) {
+            async.entry(position).start(this, level, s).arg(o).arg(o1);
+            async.publish(position);
+        } else {
+            emit(level, null, LogLine.start(s).arg(o).arg(o1));
+        }
+    }
+
+    private void log(int level, String s, long l, long l1) {
+        AsyncLogAppender async = PrintfLoggerFactory.getAsyncAppender();
+        long position = async != null ? async.claim() : -1L;
+        if (position >= 0L) {
+            async.entry(position).start(this, level, s).arg(l).arg(l1);
+            async.publish(position);
+        } else {
+            emit(level, null, LogLine.start(s).arg(l).arg(l1));
+        }
+    }
+
+    private void log(int level, String s, Object o, long l) {
+        AsyncLogAppender async = PrintfLoggerFactory.getAsyncAppender();
+        long position = async != null ? async.claim() : -1L;
+        if (position >= 0L) {
+            async.entry(position).start(this, level, s).arg(o).arg(l);
+            async.publish(position);
+        } else {
+            emit(level, null, LogLine.start(s).arg(o).arg(l));
+        }
+    }
+
+    private void log(int level, String s, long l, Object o) {
+        AsyncLogAppender async = PrintfLoggerFactory.getAsyncAppender();
+        long position = async != null ? async.claim() : -1L;
+        if (position >= 0L) {
+            async.entry(position).start(this, level, s).arg(l).arg(o);
+            async.publish(position);
+        } else {
+            emit(level, null, LogLine.start(s).arg(l).arg(o));
+        }
+    }
+
+    private void log(int level, String s, Object[] objects) {
+        AsyncLogAppender async = PrintfLoggerFactory.getAsyncAppender();
+        long position = async != null ? async.claim() : -1L;
+        if (position >= 0L) {
+            async.entry(position).start(this, level, s).args(objects);
+            async.publish(position);
+        } else {
+            emit(level, null, LogLine.start(s).args(objects));
+        }
+    }
+
+    void emit(int level, Marker marker, LogLine line) {
+        String message;
+        Throwable t;
+        try {
+            message = line.finish();
+            t = line.getThrowable();
+        } finally {
+            line.reset();
+        }
+        switch (level) {
+            case TRACE:
+                if (marker == null) {
+                    delegate.trace(message, t);
+                } else {
+                    delegate.trace(marker, message, t);
+                }
+                break;
+            case DEBUG:
+                if (marker == null) {
+                    delegate.debug(message, t);
+                } else {
+                    delegate.debug(marker, message, t);
+                }
+                break;
+            case INFO:
+                if (marker == null) {
+                    delegate.info(message, t);
+                } else {
+                    delegate.info(marker, message, t);
+                }
+                break;
+            case WARN:
+                if (marker == null) {
+                    delegate.warn(message, t);
+                } else {
+                    delegate.warn(marker, message, t);
+                }
+                break;
+            default:
+                if (marker == null) {
+                    delegate.error(message, t);
+                } else {
+                    delegate.error(marker, message, t);
+                }
+                break;
+        }
+    }
+
 }
@@ -3,13 +3,15 @@ package telekinesis.logger;
 import org.slf4j.ILoggerFactory;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class PrintfLoggerFactory {
 
-    private static final Map<String, PrintfLogger> loggerCache = new HashMap<>();
+    private static final Map<String, PrintfLogger> loggerCache = new ConcurrentHashMap<>();
+
+    private static volatile AsyncLogAppender asyncAppender;
 
     static {
         try {
@@ -27,12 +29,16 @@ public class PrintfLoggerFactory {
     }
 
     public static PrintfLogger getLogger(String name) {
-        PrintfLogger logger = loggerCache.get(name);
-        if (logger == null) {
-            logger = new PrintfLogger(org.slf4j.LoggerFactory.getLogger(name));
-            loggerCache.put(name, logger);
-        }
-        return logger;
+        return loggerCache.computeIfAbsent(name, n -> new PrintfLogger(org.slf4j.LoggerFactory.getLogger(n)));
+    }
+
+    public static AsyncLogAppender getAsyncAppender() {
+        return asyncAppender;
+    }
+
+    // null switches all loggers back to formatting on the calling thread
+    public static void setAsyncAppender(AsyncLogAppender asyncAppender) {
+        PrintfLoggerFactory.asyncAppender = asyncAppender;
     }
 
 }
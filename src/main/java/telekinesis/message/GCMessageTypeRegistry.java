@@ -0,0 +1,112 @@
+package telekinesis.message;
+
+import com.google.protobuf.MessageLite;
+import telekinesis.message.proto.ProtoHeader;
+import telekinesis.model.Header;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+// Message types of a single game coordinator. Entries are compiled into sorted arrays on every
+// registration, so lookups on the receive path are a binary search without boxing or locking.
+public class GCMessageTypeRegistry implements ClientMessageTypeRegistry {
+
+    private final int appId;
+
+    private volatile Table table = new Table(new int[0], new Class<?>[0], new HashMap<>());
+
+    public GCMessageTypeRegistry(int appId) {
+        this.appId = appId;
+    }
+
+    public int getAppId() {
+        return appId;
+    }
+
+    public synchronized GCMessageTypeRegistry register(int messageType, Class<? extends MessageLite> bodyClass) {
+        int type = messageType | MessageFlag.GC | MessageFlag.PROTO;
+        int[] types = table.types;
+        Class<?>[] bodyClasses = table.bodyClasses;
+        int index = Arrays.binarySearch(types, type);
+        int[] newTypes;
+        Class<?>[] newBodyClasses;
+        if (index >= 0) {
+            newTypes = types;
+            newBodyClasses = bodyClasses.clone();
+        } else {
+            index = -index - 1;
+            newTypes = new int[types.length + 1];
+            newBodyClasses = new Class<?>[types.length + 1];
+            System.arraycopy(types, 0, newTypes, 0, index);
+            System.arraycopy(bodyClasses, 0, newBodyClasses, 0, index);
+            System.arraycopy(types, index, newTypes, index + 1, types.length - index);
+            System.arraycopy(bodyClasses, index, newBodyClasses, index + 1, types.length - index);
+            newTypes[index] = type;
+        }
+        newBodyClasses[index] = bodyClass;
+        Map<Class<?>, Integer> newTypesByBodyClass = new HashMap<>(table.typesByBodyClass);
+        newTypesByBodyClass.put(bodyClass, type);
+        table = new Table(newTypes, newBodyClasses, newTypesByBodyClass);
+        return this;
+    }
+
+    public int size() {
+        return table.types.length;
+    }
+
+    @Override
+    public boolean knowsMessageType(int appId, int messageType) {
+        return appId == this.appId && Arrays.binarySearch(table.types, messageType) >= 0;
+    }
+
+    @Override
+    public boolean knowsBodyClass(int appId, Class<?> bodyClass) {
+        return appId == this.appId && table.typesByBodyClass.containsKey(bodyClass);
+    }
+
+    @Override
+    public Class<? extends Header> getHeaderClassForMessageType(int appId, int messageType) {
+        return knowsMessageType(appId, messageType) ? ProtoHeader.class : null;
+    }
+
+    @Override
+    public Class<? extends Header> getHeaderClassForBody(int appId, Object body) {
+        return getMessageTypeForBody(appId, body) != null ? ProtoHeader.class : null;
+    }
+
+    @Override
+    public Class<?> getBodyClassForMessageType(int appId, int messageType) {
+        if (appId != this.appId) {
+            return null;
+        }
+        Table current = table;
+        int index = Arrays.binarySearch(current.types, messageType);
+        return index >= 0 ? current.bodyClasses[index] : null;
+    }
+
+    @Override
+    public Integer getMessageTypeForBody(int appId, Object body) {
+        if (appId != this.appId) {
+            return null;
+        }
+        Class<?> bodyClass = body.getClass();
+        if (MessageLite.Builder.class.isAssignableFrom(bodyClass)) {
+            bodyClass = ((MessageLite.Builder) body).getDefaultInstanceForType().getClass();
+        }
+        return table.typesByBodyClass.get(bodyClass);
+    }
+
+    private static class Table {
+        private final int[] types;
+        private final Class<?>[] bodyClasses;
+        private final Map<Class<?>, Integer> typesByBodyClass;
+
+        private Table(int[] types, Class<?>[] bodyClasses, Map<Class<?>, Integer> typesByBodyClass) {
+            this.types = types;
+            this.bodyClasses = bodyClasses;
+            this.typesByBodyClass = typesByBodyClass;
+        }
+    }
+
+}
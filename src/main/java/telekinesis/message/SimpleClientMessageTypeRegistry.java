@@ -1,6 +1,6 @@
 package telekinesis.message;
 
-import com.google.protobuf.GeneratedMessage;
+import com.google.protobuf.MessageLite;
 import telekinesis.message.extended.ExtendedHeader;
 import telekinesis.message.proto.ProtoHeader;
 import telekinesis.message.simple.SimpleHeader;
@@ -26,11 +26,11 @@ public class SimpleClientMessageTypeRegistry implements ClientMessageTypeRegistr
         return registerMessageType(AppId.STEAM, messageType, ExtendedHeader.class, bodyClass);
     }
 
-    public SimpleClientMessageTypeRegistry registerProto(int messageType, Class<? extends GeneratedMessage> bodyClass) {
+    public SimpleClientMessageTypeRegistry registerProto(int messageType, Class<? extends MessageLite> bodyClass) {
         return registerMessageType(AppId.STEAM, messageType | MessageFlag.PROTO, ProtoHeader.class, bodyClass);
     }
 
-    public SimpleClientMessageTypeRegistry registerGC(int appId, int messageType, Class<? extends GeneratedMessage> bodyClass) {
+    public SimpleClientMessageTypeRegistry registerGC(int appId, int messageType, Class<? extends MessageLite> bodyClass) {
         return registerMessageType(appId, messageType | MessageFlag.GC | MessageFlag.PROTO, ProtoHeader.class, bodyClass);
     }
 
@@ -77,8 +77,8 @@ public class SimpleClientMessageTypeRegistry implements ClientMessageTypeRegistr
 
     protected Class<?> resolveBodyClass(Object body) {
         Class<?> bodyClass = body.getClass();
-        if (GeneratedMessage.Builder.class.isAssignableFrom(bodyClass)) {
-            return ((GeneratedMessage.Builder) body).getDefaultInstanceForType().getClass();
+        if (MessageLite.Builder.class.isAssignableFrom(bodyClass)) {
+            return ((MessageLite.Builder) body).getDefaultInstanceForType().getClass();
         } else {
             return bodyClass;
         }
@@ -0,0 +1,50 @@
+package telekinesis.message.proto;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.UnsafeByteOperations;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
+
+import java.io.IOException;
+
+public class ProtoBufUtil {
+
+    // Input over the readable bytes of the buffer. If the buffer is an unpooled heap buffer its array
+    // is never handed out again, so bytes fields can alias it instead of being copied.
+    // Pooled or direct buffers are copied once up front.
+    public static CodedInputStream newAliasingInput(ByteBuf in) {
+        ByteString bytes;
+        if (in.hasArray() && in.alloc() instanceof UnpooledByteBufAllocator) {
+            bytes = UnsafeByteOperations.unsafeWrap(in.array(), in.arrayOffset() + in.readerIndex(), in.readableBytes());
+        } else {
+            byte[] copy = new byte[in.readableBytes()];
+            in.getBytes(in.readerIndex(), copy);
+            bytes = UnsafeByteOperations.unsafeWrap(copy);
+        }
+        return newAliasingInput(bytes);
+    }
+
+    public static CodedInputStream newAliasingInput(ByteString in) {
+        CodedInputStream cis = in.newCodedInput();
+        cis.enableAliasing(true);
+        return cis;
+    }
+
+    // serializes straight into the buffer, without going through a temporary byte array
+    public static void writeTo(MessageLite message, ByteBuf out) throws IOException {
+        int size = message.getSerializedSize();
+        out.ensureWritable(size);
+        if (out.nioBufferCount() != 1) {
+            out.writeBytes(message.toByteArray());
+            return;
+        }
+        CodedOutputStream cos = CodedOutputStream.newInstance(out.nioBuffer(out.writerIndex(), size));
+        message.writeTo(cos);
+        cos.checkNoSpaceLeft();
+        out.writerIndex(out.writerIndex() + size);
+    }
+
+}
@@ -1,5 +1,6 @@
 package telekinesis.message.proto;
 
+import com.google.protobuf.CodedInputStream;
 import io.netty.buffer.ByteBuf;
 import telekinesis.message.proto.generated.steam.SM_Base;
 import telekinesis.model.Decodable;
@@ -73,16 +74,23 @@ public class ProtoHeader implements Header, Decodable, Encodable {
 
     @Override
     public void decode(ByteBuf in) throws IOException {
-        byte[] buf = new byte[in.readInt()];
-        in.readBytes(buf);
-        delegate.mergeFrom(buf);
+        int size = in.readInt();
+        delegate.mergeFrom(CodedInputStream.newInstance(in.nioBuffer(in.readerIndex(), size)));
+        in.skipBytes(size);
+    }
+
+    public void decode(CodedInputStream in) throws IOException {
+        int size = in.readRawLittleEndian32();
+        int oldLimit = in.pushLimit(size);
+        delegate.mergeFrom(in);
+        in.popLimit(oldLimit);
     }
 
     @Override
     public void encode(ByteBuf out) throws IOException {
-        byte[] buf = delegate.build().toByteArray();
-        out.writeInt(buf.length);
-        out.writeBytes(buf);
+        SM_Base.CMsgProtoBufHeader header = delegate.build();
+        out.writeInt(header.getSerializedSize());
+        ProtoBufUtil.writeTo(header, out);
     }
 
 }
@@ -6,8 +6,11 @@ import telekinesis.model.steam.EUniverse;
 
 public class ChannelEncryptRequest implements Decodable {
 
+    public static final int CHALLENGE_LENGTH = 16;
+
     private int protocolVersion = 1;
     private EUniverse universe;
+    private byte[] challenge;
 
     public int getProtocolVersion() {
         return protocolVersion;
@@ -25,10 +28,23 @@ public class ChannelEncryptRequest implements Decodable {
         this.universe = universe;
     }
 
+    // only sent by servers that want the HMAC variant of the channel encryption, null otherwise
+    public byte[] getChallenge() {
+        return challenge;
+    }
+
+    public void setChallenge(byte[] challenge) {
+        this.challenge = challenge;
+    }
+
     @Override
     public void decode(ByteBuf in) {
         protocolVersion = in.readInt();
         universe = EUniverse.f(in.readInt());
+        if (in.readableBytes() >= CHALLENGE_LENGTH) {
+            challenge = new byte[CHALLENGE_LENGTH];
+            in.readBytes(challenge);
+        }
     }
 
 }
@@ -1,16 +1,27 @@
 package telekinesis.model;
 
+import telekinesis.storage.DelegateFileStorage;
+import telekinesis.storage.SteamStorage;
+
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.stream.Stream;
 
 public interface SteamClientDelegate {
 
+    String LOGIN_KEY_FILE = "login_key";
+
     String getAccountName();
     String getPassword();
 
+    // delegates with a storage of their own may return it here, the client asks once and keeps it
+    default SteamStorage getStorage() {
+        return new DelegateFileStorage(this);
+    }
+
     Stream<Path> findFile(String pattern) throws IOException;
     void writeFile(String fileName, Integer dstOffset, ByteBuffer data, StandardOpenOption... openOptions) throws IOException;
     ByteBuffer readFile(String fileName, Integer dstOffset, Integer length) throws IOException;
@@ -18,4 +29,19 @@ public interface SteamClientDelegate {
 
     byte[] getSentrySha1() throws IOException;
 
+    default String getLoginKey() throws IOException {
+        if (!findFile(LOGIN_KEY_FILE).findFirst().isPresent()) {
+            return null;
+        }
+        return StandardCharsets.UTF_8.decode(readFile(LOGIN_KEY_FILE, null, null)).toString();
+    }
+
+    default void setLoginKey(String loginKey) throws IOException {
+        if (loginKey == null) {
+            deleteFile(LOGIN_KEY_FILE);
+        } else {
+            writeFile(LOGIN_KEY_FILE, 0, StandardCharsets.UTF_8.encode(loginKey), StandardOpenOption.TRUNCATE_EXISTING);
+        }
+    }
+
 }
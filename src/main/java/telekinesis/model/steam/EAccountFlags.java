@@ -1,6 +1,6 @@
 package telekinesis.model.steam;
 
-import java.util.HashMap;
+import telekinesis.util.IntEnumTable;
 
 public enum EAccountFlags {
     NormalUser(0),
@@ -36,15 +36,9 @@ public enum EAccountFlags {
         return code;
     }
 
-    private static HashMap<Integer, EAccountFlags> values = new HashMap<Integer, EAccountFlags>();
-
-    static {
-        for (final EAccountFlags type : EAccountFlags.values()) {
-            EAccountFlags.values.put(type.v(), type);
-        }
-    }
+    private static final IntEnumTable<EAccountFlags> values = new IntEnumTable<>(EAccountFlags.values(), EAccountFlags::v);
 
     public static EAccountFlags f(int code) {
-        return EAccountFlags.values.get(code);
+        return values.get(code);
     }
 }
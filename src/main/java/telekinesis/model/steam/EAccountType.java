@@ -1,6 +1,6 @@
 package telekinesis.model.steam;
 
-import java.util.HashMap;
+import telekinesis.util.IntEnumTable;
 
 public enum EAccountType {
     Invalid(0),
@@ -26,15 +26,9 @@ public enum EAccountType {
         return code;
     }
 
-    private static HashMap<Integer, EAccountType> values = new HashMap<Integer, EAccountType>();
-
-    static {
-        for (final EAccountType type : EAccountType.values()) {
-            EAccountType.values.put(type.v(), type);
-        }
-    }
+    private static final IntEnumTable<EAccountType> values = new IntEnumTable<>(EAccountType.values(), EAccountType::v);
 
     public static EAccountType fromCode(int code) {
-        return EAccountType.values.get(code);
+        return values.get(code);
     }
 }
@@ -1,6 +1,6 @@
 package telekinesis.model.steam;
 
-import java.util.HashMap;
+import telekinesis.util.IntEnumTable;
 
 public enum EAppInfoSection {
     Unknown(0),
@@ -31,15 +31,9 @@ public enum EAppInfoSection {
         return code;
     }
 
-    private static HashMap<Integer, EAppInfoSection> values = new HashMap<Integer, EAppInfoSection>();
-
-    static {
-        for (final EAppInfoSection type : EAppInfoSection.values()) {
-            EAppInfoSection.values.put(type.v(), type);
-        }
-    }
+    private static final IntEnumTable<EAppInfoSection> values = new IntEnumTable<>(EAppInfoSection.values(), EAppInfoSection::v);
 
     public static EAppInfoSection f(int code) {
-        return EAppInfoSection.values.get(code);
+        return values.get(code);
     }
 }
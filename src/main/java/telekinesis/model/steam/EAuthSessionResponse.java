@@ -1,6 +1,6 @@
 package telekinesis.model.steam;
 
-import java.util.HashMap;
+import telekinesis.util.IntEnumTable;
 
 public enum EAuthSessionResponse {
     OK(0),
@@ -23,15 +23,9 @@ public enum EAuthSessionResponse {
         return code;
     }
 
-    private static HashMap<Integer, EAuthSessionResponse> values = new HashMap<Integer, EAuthSessionResponse>();
-
-    static {
-        for (final EAuthSessionResponse type : EAuthSessionResponse.values()) {
-            EAuthSessionResponse.values.put(type.v(), type);
-        }
-    }
+    private static final IntEnumTable<EAuthSessionResponse> values = new IntEnumTable<>(EAuthSessionResponse.values(), EAuthSessionResponse::v);
 
     public static EAuthSessionResponse f(int code) {
-        return EAuthSessionResponse.values.get(code);
+        return values.get(code);
     }
 }
@@ -1,6 +1,6 @@
 package telekinesis.model.steam;
 
-import java.util.HashMap;
+import telekinesis.util.IntEnumTable;
 
 public enum EChatAction {
     InviteChat(1),
@@ -30,15 +30,9 @@ public enum EChatAction {
         return code;
     }
 
-    private static HashMap<Integer, EChatAction> values = new HashMap<Integer, EChatAction>();
-
-    static {
-        for (final EChatAction type : EChatAction.values()) {
-            EChatAction.values.put(type.v(), type);
-        }
-    }
+    private static final IntEnumTable<EChatAction> values = new IntEnumTable<>(EChatAction.values(), EChatAction::v);
 
     public static EChatAction f(int code) {
-        return EChatAction.values.get(code);
+        return values.get(code);
     }
 }
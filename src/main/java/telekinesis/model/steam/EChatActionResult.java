@@ -1,6 +1,6 @@
 package telekinesis.model.steam;
 
-import java.util.HashMap;
+import telekinesis.util.IntEnumTable;
 
 public enum EChatActionResult {
     Success(1),
@@ -24,15 +24,9 @@ public enum EChatActionResult {
         return code;
     }
 
-    private static HashMap<Integer, EChatActionResult> values = new HashMap<Integer, EChatActionResult>();
-
-    static {
-        for (final EChatActionResult type : EChatActionResult.values()) {
-            EChatActionResult.values.put(type.v(), type);
-        }
-    }
+    private static final IntEnumTable<EChatActionResult> values = new IntEnumTable<>(EChatActionResult.values(), EChatActionResult::v);
 
     public static EChatActionResult f(int code) {
-        return EChatActionResult.values.get(code);
+        return values.get(code);
     }
 }
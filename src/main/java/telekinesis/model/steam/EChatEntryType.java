@@ -1,6 +1,6 @@
 package telekinesis.model.steam;
 
-import java.util.HashMap;
+import telekinesis.util.IntEnumTable;
 
 public enum EChatEntryType {
     Invalid(0),
@@ -21,15 +21,9 @@ public enum EChatEntryType {
         return code;
     }
 
-    private static HashMap<Integer, EChatEntryType> values = new HashMap<Integer, EChatEntryType>();
-
-    static {
-        for (final EChatEntryType type : EChatEntryType.values()) {
-            EChatEntryType.values.put(type.v(), type);
-        }
-    }
+    private static final IntEnumTable<EChatEntryType> values = new IntEnumTable<>(EChatEntryType.values(), EChatEntryType::v);
 
     public static EChatEntryType f(int code) {
-        return EChatEntryType.values.get(code);
+        return values.get(code);
     }
 }
@@ -1,6 +1,6 @@
 package telekinesis.model.steam;
 
-import java.util.HashMap;
+import telekinesis.util.IntEnumTable;
 
 public enum EChatInfoType {
     StateChange(1),
@@ -17,15 +17,9 @@ public enum EChatInfoType {
         return code;
     }
 
-    private static HashMap<Integer, EChatInfoType> values = new HashMap<Integer, EChatInfoType>();
-
-    static {
-        for (final EChatInfoType type : EChatInfoType.values()) {
-            EChatInfoType.values.put(type.v(), type);
-        }
-    }
+    private static final IntEnumTable<EChatInfoType> values = new IntEnumTable<>(EChatInfoType.values(), EChatInfoType::v);
 
     public static EChatInfoType f(int code) {
-        return EChatInfoType.values.get(code);
+        return values.get(code);
     }
 }
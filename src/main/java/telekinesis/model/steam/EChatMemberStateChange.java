@@ -1,6 +1,6 @@
 package telekinesis.model.steam;
 
-import java.util.HashMap;
+import telekinesis.util.IntEnumTable;
 
 public enum EChatMemberStateChange {
     Entered(0x01),
@@ -19,15 +19,9 @@ public enum EChatMemberStateChange {
         return code;
     }
 
-    private static HashMap<Byte, EChatMemberStateChange> values = new HashMap<Byte, EChatMemberStateChange>();
-
-    static {
-        for (final EChatMemberStateChange type : EChatMemberStateChange.values()) {
-            EChatMemberStateChange.values.put(type.v(), type);
-        }
-    }
+    private static final IntEnumTable<EChatMemberStateChange> values = new IntEnumTable<>(EChatMemberStateChange.values(), EChatMemberStateChange::v);
 
     public static EChatMemberStateChange f(int code) {
-        return EChatMemberStateChange.values.get(code);
+        return values.get(code);
     }
 }
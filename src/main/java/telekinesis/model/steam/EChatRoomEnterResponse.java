@@ -1,6 +1,6 @@
 package telekinesis.model.steam;
 
-import java.util.HashMap;
+import telekinesis.util.IntEnumTable;
 
 public enum EChatRoomEnterResponse {
     Success(1),
@@ -28,15 +28,9 @@ public enum EChatRoomEnterResponse {
         return code;
     }
 
-    private static HashMap<Integer, EChatRoomEnterResponse> values = new HashMap<Integer, EChatRoomEnterResponse>();
-
-    static {
-        for (final EChatRoomEnterResponse type : EChatRoomEnterResponse.values()) {
-            EChatRoomEnterResponse.values.put(type.v(), type);
-        }
-    }
+    private static final IntEnumTable<EChatRoomEnterResponse> values = new IntEnumTable<>(EChatRoomEnterResponse.values(), EChatRoomEnterResponse::v);
 
     public static EChatRoomEnterResponse f(int code) {
-        return EChatRoomEnterResponse.values.get(code);
+        return values.get(code);
     }
 }
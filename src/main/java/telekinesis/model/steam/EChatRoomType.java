@@ -1,6 +1,6 @@
 package telekinesis.model.steam;
 
-import java.util.HashMap;
+import telekinesis.util.IntEnumTable;
 
 public enum EChatRoomType {
     Friend(1),
@@ -17,15 +17,9 @@ public enum EChatRoomType {
         return code;
     }
 
-    private static HashMap<Integer, EChatRoomType> values = new HashMap<Integer, EChatRoomType>();
-
-    static {
-        for (final EChatRoomType type : EChatRoomType.values()) {
-            EChatRoomType.values.put(type.v(), type);
-        }
-    }
+    private static final IntEnumTable<EChatRoomType> values = new IntEnumTable<>(EChatRoomType.values(), EChatRoomType::v);
 
     public static EChatRoomType f(int code) {
-        return EChatRoomType.values.get(code);
+        return values.get(code);
     }
 }
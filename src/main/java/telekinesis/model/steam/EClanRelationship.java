@@ -1,6 +1,6 @@
 package telekinesis.model.steam;
 
-import java.util.HashMap;
+import telekinesis.util.IntEnumTable;
 
 public enum EClanRelationship {
     None(0),
@@ -19,15 +19,9 @@ public enum EClanRelationship {
         return code;
     }
 
-    private static HashMap<Integer, EClanRelationship> values = new HashMap<Integer, EClanRelationship>();
-
-    static {
-        for (final EClanRelationship type : EClanRelationship.values()) {
-            EClanRelationship.values.put(type.v(), type);
-        }
-    }
+    private static final IntEnumTable<EClanRelationship> values = new IntEnumTable<>(EClanRelationship.values(), EClanRelationship::v);
 
     public static EClanRelationship f(int code) {
-        return EClanRelationship.values.get(code);
+        return values.get(code);
     }
 }
@@ -1,6 +1,6 @@
 package telekinesis.model.steam;
 
-import java.util.HashMap;
+import telekinesis.util.IntEnumTable;
 
 public enum EClientPersonaStateFlag {
     Status(1),
@@ -25,15 +25,9 @@ public enum EClientPersonaStateFlag {
         return code;
     }
 
-    private static HashMap<Integer, EClientPersonaStateFlag> values = new HashMap<Integer, EClientPersonaStateFlag>();
-
-    static {
-        for (final EClientPersonaStateFlag type : EClientPersonaStateFlag.values()) {
-            EClientPersonaStateFlag.values.put(type.v(), type);
-        }
-    }
+    private static final IntEnumTable<EClientPersonaStateFlag> values = new IntEnumTable<>(EClientPersonaStateFlag.values(), EClientPersonaStateFlag::v);
 
     public static EClientPersonaStateFlag f(int code) {
-        return EClientPersonaStateFlag.values.get(code);
+        return values.get(code);
     }
 }
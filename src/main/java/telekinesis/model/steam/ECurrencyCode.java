@@ -1,6 +1,6 @@
 package telekinesis.model.steam;
 
-import java.util.HashMap;
+import telekinesis.util.IntEnumTable;
 
 public enum ECurrencyCode {
     Invalid(0),
@@ -22,15 +22,9 @@ public enum ECurrencyCode {
         return code;
     }
 
-    private static HashMap<Integer, ECurrencyCode> values = new HashMap<Integer, ECurrencyCode>();
-
-    static {
-        for (final ECurrencyCode type : ECurrencyCode.values()) {
-            ECurrencyCode.values.put(type.v(), type);
-        }
-    }
+    private static final IntEnumTable<ECurrencyCode> values = new IntEnumTable<>(ECurrencyCode.values(), ECurrencyCode::v);
 
     public static ECurrencyCode f(int code) {
-        return ECurrencyCode.values.get(code);
+        return values.get(code);
     }
 }
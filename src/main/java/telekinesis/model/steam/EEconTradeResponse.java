@@ -1,6 +1,6 @@
 package telekinesis.model.steam;
 
-import java.util.HashMap;
+import telekinesis.util.IntEnumTable;
 
 public enum EEconTradeResponse {
     Accepted(0),
@@ -28,15 +28,9 @@ public enum EEconTradeResponse {
         return code;
     }
 
-    private static HashMap<Integer, EEconTradeResponse> values = new HashMap<Integer, EEconTradeResponse>();
-
-    static {
-        for (final EEconTradeResponse type : EEconTradeResponse.values()) {
-            EEconTradeResponse.values.put(type.v(), type);
-        }
-    }
+    private static final IntEnumTable<EEconTradeResponse> values = new IntEnumTable<>(EEconTradeResponse.values(), EEconTradeResponse::v);
 
     public static EEconTradeResponse f(int code) {
-        return EEconTradeResponse.values.get(code);
+        return values.get(code);
     }
 }
@@ -1,6 +1,6 @@
 package telekinesis.model.steam;
 
-import java.util.HashMap;
+import telekinesis.util.IntEnumTable;
 
 public enum EFriendRelationship {
     None(0),
@@ -24,15 +24,9 @@ public enum EFriendRelationship {
         return code;
     }
 
-    private static HashMap<Integer, EFriendRelationship> values = new HashMap<Integer, EFriendRelationship>();
-
-    static {
-        for (final EFriendRelationship type : EFriendRelationship.values()) {
-            EFriendRelationship.values.put(type.v(), type);
-        }
-    }
+    private static final IntEnumTable<EFriendRelationship> values = new IntEnumTable<>(EFriendRelationship.values(), EFriendRelationship::v);
 
     public static EFriendRelationship f(int code) {
-        return EFriendRelationship.values.get(code);
+        return values.get(code);
     }
 }
@@ -1,6 +1,6 @@
 package telekinesis.model.steam;
 
-import java.util.HashMap;
+import telekinesis.util.IntEnumTable;
 
 public enum ELicenseFlags {
     None(0),
@@ -22,15 +22,9 @@ public enum ELicenseFlags {
         return code;
     }
 
-    private static HashMap<Integer, ELicenseFlags> values = new HashMap<Integer, ELicenseFlags>();
-
-    static {
-        for (final ELicenseFlags type : ELicenseFlags.values()) {
-            ELicenseFlags.values.put(type.v(), type);
-        }
-    }
+    private static final IntEnumTable<ELicenseFlags> values = new IntEnumTable<>(ELicenseFlags.values(), ELicenseFlags::v);
 
     public static ELicenseFlags f(int code) {
-        return ELicenseFlags.values.get(code);
+        return values.get(code);
     }
 }
@@ -1,6 +1,6 @@
 package telekinesis.model.steam;
 
-import java.util.HashMap;
+import telekinesis.util.IntEnumTable;
 
 public enum ELicenseType {
     NoLicense(0),
@@ -20,15 +20,9 @@ public enum ELicenseType {
         return code;
     }
 
-    private static HashMap<Integer, ELicenseType> values = new HashMap<Integer, ELicenseType>();
-
-    static {
-        for (final ELicenseType type : ELicenseType.values()) {
-            ELicenseType.values.put(type.v(), type);
-        }
-    }
+    private static final IntEnumTable<ELicenseType> values = new IntEnumTable<>(ELicenseType.values(), ELicenseType::v);
 
     public static ELicenseType f(int code) {
-        return ELicenseType.values.get(code);
+        return values.get(code);
     }
 }
@@ -1,6 +1,6 @@
 package telekinesis.model.steam;
 
-import java.util.HashMap;
+import telekinesis.util.IntEnumTable;
 
 public enum EMsg {
     Invalid(0),
@@ -1743,16 +1743,10 @@ public enum EMsg {
         return code;
     }
 
-    private static HashMap<Integer, EMsg> values = new HashMap<Integer, EMsg>();
-
-    static {
-        for (final EMsg type : EMsg.values()) {
-            EMsg.values.put(type.v(), type);
-        }
-    }
+    private static final IntEnumTable<EMsg> values = new IntEnumTable<>(EMsg.values(), EMsg::v);
 
     public static EMsg f(int code) {
-        return EMsg.values.get(code);
+        return values.get(code);
     }
 
     public static String n(int code) {
@@ -1,6 +1,6 @@
 package telekinesis.model.steam;
 
-import java.util.HashMap;
+import telekinesis.util.IntEnumTable;
 
 public enum EPaymentMethod {
     None(0),
@@ -31,15 +31,9 @@ public enum EPaymentMethod {
         return code;
     }
 
-    private static HashMap<Integer, EPaymentMethod> values = new HashMap<Integer, EPaymentMethod>();
-
-    static {
-        for (final EPaymentMethod type : EPaymentMethod.values()) {
-            EPaymentMethod.values.put(type.v(), type);
-        }
-    }
+    private static final IntEnumTable<EPaymentMethod> values = new IntEnumTable<>(EPaymentMethod.values(), EPaymentMethod::v);
 
     public static EPaymentMethod f(int code) {
-        return EPaymentMethod.values.get(code);
+        return values.get(code);
     }
 }
@@ -1,6 +1,6 @@
 package telekinesis.model.steam;
 
-import java.util.HashMap;
+import telekinesis.util.IntEnumTable;
 
 public enum EPersonaState {
     Offline(0),
@@ -21,15 +21,9 @@ public enum EPersonaState {
         return code;
     }
 
-    private static HashMap<Integer, EPersonaState> values = new HashMap<Integer, EPersonaState>();
-
-    static {
-        for (final EPersonaState type : EPersonaState.values()) {
-            EPersonaState.values.put(type.v(), type);
-        }
-    }
+    private static final IntEnumTable<EPersonaState> values = new IntEnumTable<>(EPersonaState.values(), EPersonaState::v);
 
     public static EPersonaState f(int code) {
-        return EPersonaState.values.get(code);
+        return values.get(code);
     }
 }
@@ -1,6 +1,6 @@
 package telekinesis.model.steam;
 
-import java.util.HashMap;
+import telekinesis.util.IntEnumTable;
 
 public enum EPublishedFileVisibility {
     Public(0),
@@ -17,15 +17,9 @@ public enum EPublishedFileVisibility {
         return code;
     }
 
-    private static HashMap<Integer, EPublishedFileVisibility> values = new HashMap<Integer, EPublishedFileVisibility>();
-
-    static {
-        for (final EPublishedFileVisibility type : EPublishedFileVisibility.values()) {
-            EPublishedFileVisibility.values.put(type.v(), type);
-        }
-    }
+    private static final IntEnumTable<EPublishedFileVisibility> values = new IntEnumTable<>(EPublishedFileVisibility.values(), EPublishedFileVisibility::v);
 
     public static EPublishedFileVisibility f(int code) {
-        return EPublishedFileVisibility.values.get(code);
+        return values.get(code);
     }
 }
@@ -1,6 +1,6 @@
 package telekinesis.model.steam;
 
-import java.util.HashMap;
+import telekinesis.util.IntEnumTable;
 
 public enum EResult {
     Invalid(0),
@@ -88,15 +88,9 @@ public enum EResult {
         return code;
     }
 
-    private static HashMap<Integer, EResult> values = new HashMap<Integer, EResult>();
-
-    static {
-        for (final EResult type : EResult.values()) {
-            EResult.values.put(type.v(), type);
-        }
-    }
+    private static final IntEnumTable<EResult> values = new IntEnumTable<>(EResult.values(), EResult::v);
 
     public static EResult f(int code) {
-        return EResult.values.get(code);
+        return values.get(code);
     }
 }
@@ -1,6 +1,6 @@
 package telekinesis.model.steam;
 
-import java.util.HashMap;
+import telekinesis.util.IntEnumTable;
 
 public enum EServerType {
     Invalid(-1),
@@ -64,15 +64,9 @@ public enum EServerType {
         return code;
     }
 
-    private static HashMap<Integer, EServerType> values = new HashMap<Integer, EServerType>();
-
-    static {
-        for (final EServerType type : EServerType.values()) {
-            EServerType.values.put(type.v(), type);
-        }
-    }
+    private static final IntEnumTable<EServerType> values = new IntEnumTable<>(EServerType.values(), EServerType::v);
 
     public static EServerType f(int code) {
-        return EServerType.values.get(code);
+        return values.get(code);
     }
 }
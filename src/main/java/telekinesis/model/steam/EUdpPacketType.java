@@ -1,6 +1,6 @@
 package telekinesis.model.steam;
 
-import java.util.HashMap;
+import telekinesis.util.IntEnumTable;
 
 public enum EUdpPacketType {
     Invalid(0),
@@ -23,15 +23,9 @@ public enum EUdpPacketType {
         return code;
     }
 
-    private static HashMap<Byte, EUdpPacketType> values = new HashMap<Byte, EUdpPacketType>();
-
-    static {
-        for (final EUdpPacketType type : EUdpPacketType.values()) {
-            EUdpPacketType.values.put(type.v(), type);
-        }
-    }
+    private static final IntEnumTable<EUdpPacketType> values = new IntEnumTable<>(EUdpPacketType.values(), EUdpPacketType::v);
 
     public static EUdpPacketType fromCode(byte code) {
-        return EUdpPacketType.values.get(code);
+        return values.get(code);
     }
 }
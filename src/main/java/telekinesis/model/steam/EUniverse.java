@@ -1,6 +1,6 @@
 package telekinesis.model.steam;
 
-import java.util.HashMap;
+import telekinesis.util.IntEnumTable;
 
 public enum EUniverse {
     Invalid(0),
@@ -21,15 +21,9 @@ public enum EUniverse {
         return code;
     }
 
-    private static HashMap<Integer, EUniverse> values = new HashMap<Integer, EUniverse>();
-
-    static {
-        for (final EUniverse type : EUniverse.values()) {
-            EUniverse.values.put(type.v(), type);
-        }
-    }
+    private static final IntEnumTable<EUniverse> values = new IntEnumTable<>(EUniverse.values(), EUniverse::v);
 
     public static EUniverse f(int mask) {
-        return EUniverse.values.get(mask);
+        return values.get(mask);
     }
 }
@@ -1,14 +1,20 @@
 package telekinesis.model.steam;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
+import java.io.IOException;
+import java.io.UncheckedIOException;
 
+// Steam ids are passed around as plain longs, the static methods here take them apart, parse and
+// render them without creating objects. A SteamId instance is only a wrapper for when an object is wanted.
 public class SteamId {
 
     public static final long DEFAULT = 0x110000100000000L;
 
-    private static Pattern ID_REGEX = Pattern.compile("STEAM_(?<universe>[0-5]):(?<authserver>[0-1]):(?<accountid>\\d+)", Pattern.CASE_INSENSITIVE);
+    public static final int DESKTOP_INSTANCE = 1;
+
+    // instance flags of chat ids
+    public static final int CLAN_CHAT_FLAG = 0x80000;
+    public static final int LOBBY_FLAG = 0x40000;
+    public static final int MMS_LOBBY_FLAG = 0x20000;
 
     private static final int NUM_BITS = 32;
     private static final int INSTANCE_BITS = 20;
@@ -25,11 +31,13 @@ public class SteamId {
     private static final long TYPE_MASK = ((1L << TYPE_BITS) - 1);
     private static final long UNIVERSE_MASK = ((1L << UNIVERSE_BITS) - 1);
 
+    // steam3 letters by account type code
+    private static final char[] TYPE_LETTERS = { 'I', 'U', 'M', 'G', 'A', 'P', 'C', 'g', 'T', 'i', 'a' };
 
     private final long id;
 
     public SteamId() {
-        this(0L, 1, EAccountType.Individual, EUniverse.Public);
+        this(0L, DESKTOP_INSTANCE, EAccountType.Individual, EUniverse.Public);
     }
 
     public SteamId(long id) {
@@ -37,42 +45,364 @@ public class SteamId {
     }
 
     public SteamId(long num, int instance, EAccountType type, EUniverse universe) {
-        this.id =
-                ((num & NUM_MASK) << NUM_SHIFT)
-                        | (((long) instance & INSTANCE_MASK) << INSTANCE_SHIFT)
-                        | (((long) type.v() & TYPE_MASK) << TYPE_SHIFT)
-                        | (((long) universe.v() & UNIVERSE_MASK) << UNIVERSE_SHIFT)
-        ;
+        this.id = of(num, instance, type.v(), universe.v());
     }
 
+    // any of STEAM_x:y:z, [U:1:n] or the 64 bit decimal form
     public SteamId(String steamId) {
-        final Matcher m = ID_REGEX.matcher(steamId);
-        if (!m.matches()) {
-            throw new IllegalArgumentException();
-        }
-        this.id =
-                (((Long.parseLong(m.group("accountid")) << 1) | Long.parseLong(m.group("authserver")) & NUM_MASK) << NUM_SHIFT)
-                        | ((1L & INSTANCE_MASK) << INSTANCE_SHIFT)
-                        | (((long) EAccountType.Individual.v() & TYPE_MASK) << TYPE_SHIFT)
-                        | ((Long.parseLong(m.group("universe")) & UNIVERSE_MASK) << UNIVERSE_SHIFT)
-        ;
+        this.id = parse(steamId);
     }
 
     public long toLong() {
         return id;
     }
 
+    public long getAccountId() {
+        return accountId(id);
+    }
+
+    public int getInstance() {
+        return instance(id);
+    }
+
+    public EAccountType getAccountType() {
+        return EAccountType.fromCode(accountType(id));
+    }
+
+    public EUniverse getUniverse() {
+        return EUniverse.f(universe(id));
+    }
+
+    public String toSteam2() {
+        return toSteam2(id);
+    }
+
+    public String toSteam3() {
+        return toSteam3(id);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof SteamId && ((SteamId) o).id == id;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(id);
+    }
+
     @Override
     public String toString() {
-        StringBuilder builder = new StringBuilder();
-        builder.append("SteamID[");
-        builder.append(id);
-        builder.append("]");
-        return builder.toString();
+        return toSteam3(id);
     }
 
+    public static long of(long accountId, int instance, int accountType, int universe) {
+        return ((accountId & NUM_MASK) << NUM_SHIFT)
+                | (((long) instance & INSTANCE_MASK) << INSTANCE_SHIFT)
+                | (((long) accountType & TYPE_MASK) << TYPE_SHIFT)
+                | (((long) universe & UNIVERSE_MASK) << UNIVERSE_SHIFT);
+    }
+
+    public static long individual(long accountId) {
+        return of(accountId, DESKTOP_INSTANCE, EAccountType.Individual.v(), EUniverse.Public.v());
+    }
 
-    public static void main(String[] args) {
-        System.out.println(Long.toHexString(new SteamId().toLong()));
+    public static long accountId(long steamId) {
+        return (steamId >>> NUM_SHIFT) & NUM_MASK;
     }
+
+    public static int instance(long steamId) {
+        return (int) ((steamId >>> INSTANCE_SHIFT) & INSTANCE_MASK);
+    }
+
+    public static int accountType(long steamId) {
+        return (int) ((steamId >>> TYPE_SHIFT) & TYPE_MASK);
+    }
+
+    public static int universe(long steamId) {
+        return (int) ((steamId >>> UNIVERSE_SHIFT) & UNIVERSE_MASK);
+    }
+
+    public static boolean isIndividual(long steamId) {
+        return accountType(steamId) == EAccountType.Individual.v();
+    }
+
+    public static boolean isClan(long steamId) {
+        return accountType(steamId) == EAccountType.Clan.v();
+    }
+
+    public static boolean isChat(long steamId) {
+        return accountType(steamId) == EAccountType.Chat.v();
+    }
+
+    public static boolean isLobby(long steamId) {
+        return isChat(steamId) && (instance(steamId) & LOBBY_FLAG) != 0;
+    }
+
+    public static boolean isValid(long steamId) {
+        int type = accountType(steamId);
+        int universe = universe(steamId);
+        return type > EAccountType.Invalid.v() && type < EAccountType.Max.v()
+                && universe > EUniverse.Invalid.v() && universe < EUniverse.Max.v()
+                && (type != EAccountType.Individual.v() || (accountId(steamId) != 0L && instance(steamId) <= 4))
+                && (type != EAccountType.Clan.v() || (accountId(steamId) != 0L && instance(steamId) == 0))
+                && (type != EAccountType.GameServer.v() || accountId(steamId) != 0L);
+    }
+
+    // the clan a clan chat belongs to, the id itself for anything else
+    public static long clanOfChat(long steamId) {
+        if (isChat(steamId) && (instance(steamId) & CLAN_CHAT_FLAG) != 0) {
+            return of(accountId(steamId), 0, EAccountType.Clan.v(), universe(steamId));
+        }
+        return steamId;
+    }
+
+    public static long parse(CharSequence s) {
+        return parse(s, 0, s.length());
+    }
+
+    // detects the form from the first character, throws IllegalArgumentException if nothing matches
+    public static long parse(CharSequence s, int start, int end) {
+        if (start < end) {
+            char c = s.charAt(start);
+            if (c >= '0' && c <= '9') {
+                long id = parseLong(s, start, end, Long.MAX_VALUE);
+                if (id < 0L) {
+                    throw invalid(s, start, end);
+                }
+                return id;
+            }
+            if (c == 'S' || c == 's') {
+                return parseSteam2(s, start, end);
+            }
+            return parseSteam3(s, start, end);
+        }
+        throw invalid(s, start, end);
+    }
+
+    // STEAM_x:y:z, any case. Universe 0 is read as public, as old games render public ids that way
+    public static long parseSteam2(CharSequence s, int start, int end) {
+        String prefix = "STEAM_";
+        int i = start;
+        if (end - start < prefix.length() + 5) {
+            throw invalid(s, start, end);
+        }
+        for (int k = 0; k < prefix.length(); k++, i++) {
+            if (Character.toUpperCase(s.charAt(i)) != prefix.charAt(k)) {
+                throw invalid(s, start, end);
+            }
+        }
+        int universe = digit(s, i++, start, end);
+        expect(s, i++, ':', start, end);
+        int authServer = digit(s, i++, start, end);
+        expect(s, i++, ':', start, end);
+        long accountNumber = parseLong(s, i, end, NUM_MASK >>> 1);
+        if (accountNumber < 0L || universe >= EUniverse.Max.v() || authServer > 1) {
+            throw invalid(s, start, end);
+        }
+        if (universe == EUniverse.Invalid.v()) {
+            universe = EUniverse.Public.v();
+        }
+        return of((accountNumber << 1) | authServer, DESKTOP_INSTANCE, EAccountType.Individual.v(), universe);
+    }
+
+    // [L:u:n] or [L:u:n:i], the brackets are optional
+    public static long parseSteam3(CharSequence s, int start, int end) {
+        int i = start;
+        int last = end;
+        if (i < last && s.charAt(i) == '[') {
+            if (s.charAt(last - 1) != ']') {
+                throw invalid(s, start, end);
+            }
+            i++;
+            last--;
+        }
+        if (last - i < 5) {
+            throw invalid(s, start, end);
+        }
+        char letter = s.charAt(i++);
+        expect(s, i++, ':', start, end);
+        int separator = indexOf(s, ':', i, last);
+        if (separator < 0) {
+            throw invalid(s, start, end);
+        }
+        long universe = parseLong(s, i, separator, EUniverse.Max.v() - 1);
+        i = separator + 1;
+        separator = indexOf(s, ':', i, last);
+        long accountId = parseLong(s, i, separator < 0 ? last : separator, NUM_MASK);
+        if (universe < 0L || accountId < 0L) {
+            throw invalid(s, start, end);
+        }
+        int type;
+        int instance;
+        int instanceFlags = 0;
+        switch (letter) {
+            case 'c':
+                type = EAccountType.Chat.v();
+                instanceFlags = CLAN_CHAT_FLAG;
+                break;
+            case 'L':
+                type = EAccountType.Chat.v();
+                instanceFlags = LOBBY_FLAG;
+                break;
+            default:
+                type = typeOfLetter(letter);
+                if (type < 0) {
+                    throw invalid(s, start, end);
+                }
+        }
+        if (separator >= 0) {
+            instance = (int) parseLong(s, separator + 1, last, INSTANCE_MASK);
+            if (instance < 0) {
+                throw invalid(s, start, end);
+            }
+        } else {
+            instance = type == EAccountType.Clan.v() || type == EAccountType.Chat.v() ? 0 : DESKTOP_INSTANCE;
+        }
+        return of(accountId, instance | instanceFlags, type, (int) universe);
+    }
+
+    public static String toSteam2(long steamId) {
+        StringBuilder sb = new StringBuilder(24);
+        appendSteam2(sb, steamId);
+        return sb.toString();
+    }
+
+    public static String toSteam3(long steamId) {
+        StringBuilder sb = new StringBuilder(24);
+        appendSteam3(sb, steamId);
+        return sb.toString();
+    }
+
+    public static void appendSteam2(StringBuilder sb, long steamId) {
+        try {
+            appendSteam2((Appendable) sb, steamId);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static void appendSteam3(StringBuilder sb, long steamId) {
+        try {
+            appendSteam3((Appendable) sb, steamId);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // STEAM_x:y:z, only meaningful for individual accounts
+    public static void appendSteam2(Appendable out, long steamId) throws IOException {
+        long accountId = accountId(steamId);
+        out.append("STEAM_");
+        appendDecimal(out, universe(steamId));
+        out.append(':');
+        appendDecimal(out, accountId & 1L);
+        out.append(':');
+        appendDecimal(out, accountId >>> 1);
+    }
+
+    public static void appendSteam3(Appendable out, long steamId) throws IOException {
+        int type = accountType(steamId);
+        int instance = instance(steamId);
+        char letter = type < TYPE_LETTERS.length ? TYPE_LETTERS[type] : 'i';
+        if (type == EAccountType.Chat.v()) {
+            if ((instance & CLAN_CHAT_FLAG) != 0) {
+                letter = 'c';
+            } else if ((instance & LOBBY_FLAG) != 0) {
+                letter = 'L';
+            }
+        }
+        boolean withInstance = type == EAccountType.AnonGameServer.v()
+                || (type == EAccountType.Individual.v() && instance != DESKTOP_INSTANCE);
+        out.append('[').append(letter).append(':');
+        appendDecimal(out, universe(steamId));
+        out.append(':');
+        appendDecimal(out, accountId(steamId));
+        if (withInstance) {
+            out.append(':');
+            appendDecimal(out, instance);
+        }
+        out.append(']');
+    }
+
+    public static void append64(Appendable out, long steamId) throws IOException {
+        appendDecimal(out, steamId);
+    }
+
+    private static int typeOfLetter(char letter) {
+        for (int type = 0; type < TYPE_LETTERS.length; type++) {
+            if (TYPE_LETTERS[type] == letter) {
+                return type;
+            }
+        }
+        return -1;
+    }
+
+    // digit by digit, so nothing is allocated whatever the Appendable is
+    private static void appendDecimal(Appendable out, long value) throws IOException {
+        if (out instanceof StringBuilder) {
+            ((StringBuilder) out).append(value);
+            return;
+        }
+        if (value < 0) {
+            // only a raw 64 bit id can be negative, and only if it is garbage
+            out.append('-');
+            if (value == Long.MIN_VALUE) {
+                out.append("9223372036854775808");
+                return;
+            }
+            value = -value;
+        }
+        long divisor = 1L;
+        while (divisor <= value / 10L) {
+            divisor *= 10L;
+        }
+        for (; divisor > 0L; divisor /= 10L) {
+            out.append((char) ('0' + (value / divisor) % 10L));
+        }
+    }
+
+    // -1 if the range isn't a decimal number up to max
+    private static long parseLong(CharSequence s, int start, int end, long max) {
+        if (start >= end) {
+            return -1L;
+        }
+        long value = 0L;
+        for (int i = start; i < end; i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9' || value > (max - (c - '0')) / 10L) {
+                return -1L;
+            }
+            value = value * 10L + (c - '0');
+        }
+        return value;
+    }
+
+    private static int digit(CharSequence s, int i, int start, int end) {
+        char c = i < end ? s.charAt(i) : 0;
+        if (c < '0' || c > '9') {
+            throw invalid(s, start, end);
+        }
+        return c - '0';
+    }
+
+    private static void expect(CharSequence s, int i, char expected, int start, int end) {
+        if (i >= end || s.charAt(i) != expected) {
+            throw invalid(s, start, end);
+        }
+    }
+
+    private static int indexOf(CharSequence s, char c, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (s.charAt(i) == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static IllegalArgumentException invalid(CharSequence s, int start, int end) {
+        return new IllegalArgumentException("not a steam id: " + s.subSequence(start, end));
+    }
+
 }
@@ -0,0 +1,86 @@
+package telekinesis.storage;
+
+import telekinesis.model.SteamClientDelegate;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+
+// Storage on top of the file methods of a delegate that doesn't provide a storage of its own.
+// The sentry hash is asked from the delegate once and kept until the sentry is written again.
+// The login key goes through getLoginKey/setLoginKey, so delegates that override them are still asked.
+public class DelegateFileStorage implements SteamStorage {
+
+    private static final byte[] NO_SENTRY = new byte[0];
+
+    private final SteamClientDelegate delegate;
+    private byte[] sentrySha1;
+
+    public DelegateFileStorage(SteamClientDelegate delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public boolean exists(String key) throws IOException {
+        if (SteamClientDelegate.LOGIN_KEY_FILE.equals(key)) {
+            return delegate.getLoginKey() != null;
+        }
+        return delegate.findFile(key).findFirst().isPresent();
+    }
+
+    @Override
+    public ByteBuffer read(String key) throws IOException {
+        if (SteamClientDelegate.LOGIN_KEY_FILE.equals(key)) {
+            String loginKey = delegate.getLoginKey();
+            return loginKey != null ? StandardCharsets.UTF_8.encode(loginKey) : null;
+        }
+        if (!exists(key)) {
+            return null;
+        }
+        return delegate.readFile(key, null, null);
+    }
+
+    @Override
+    public void write(String key, int offset, ByteBuffer data, boolean truncate) throws IOException {
+        if (SteamClientDelegate.LOGIN_KEY_FILE.equals(key) && offset == 0 && truncate) {
+            delegate.setLoginKey(StandardCharsets.UTF_8.decode(data.duplicate()).toString());
+            return;
+        }
+        if (truncate) {
+            delegate.writeFile(key, offset, data, StandardOpenOption.TRUNCATE_EXISTING);
+        } else {
+            delegate.writeFile(key, offset, data);
+        }
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        if (SteamClientDelegate.LOGIN_KEY_FILE.equals(key)) {
+            delegate.setLoginKey(null);
+            return;
+        }
+        delegate.deleteFile(key);
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public synchronized void writeSentry(String fileName, int offset, ByteBuffer data) throws IOException {
+        sentrySha1 = null;
+        delegate.writeFile(fileName, offset, data);
+    }
+
+    @Override
+    public synchronized byte[] getSentrySha1() throws IOException {
+        byte[] sha1 = sentrySha1;
+        if (sha1 == null) {
+            sha1 = delegate.getSentrySha1();
+            sentrySha1 = sha1 != null ? sha1 : NO_SENTRY;
+        }
+        return sha1 != NO_SENTRY ? sha1 : null;
+    }
+
+}
@@ -0,0 +1,246 @@
+package telekinesis.storage;
+
+import telekinesis.logger.PrintfLogger;
+import telekinesis.logger.PrintfLoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// One file per key below a directory, read and written through memory mappings.
+// Writes only update an in memory copy, a background thread writes the dirty values out in batches
+// and forces them to disk together, so a logon storm doesn't wait on the disk. Reads see pending
+// writes. Sentry hashes are cached until the sentry is written again.
+// forAccount() gives views into per account subdirectories that share the cache and the flush thread,
+// so one store can serve any number of accounts.
+public class MappedFileStorage implements SteamStorage, AutoCloseable {
+
+    private static final PrintfLogger log = PrintfLoggerFactory.getLogger("steam.storage");
+
+    private static final int LOCK_STRIPES = 64;
+    private static final byte[] NO_VALUE = new byte[0];
+
+    private final Shared shared;
+    private final Path directory;
+
+    public MappedFileStorage(Path directory) {
+        this(directory, 1000L);
+    }
+
+    public MappedFileStorage(Path directory, long flushIntervalMillis) {
+        this(new Shared(flushIntervalMillis), directory);
+    }
+
+    private MappedFileStorage(Shared shared, Path directory) {
+        this.shared = shared;
+        this.directory = directory;
+    }
+
+    public MappedFileStorage forAccount(String accountName) {
+        return new MappedFileStorage(shared, directory.resolve(sanitize(accountName)));
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    @Override
+    public boolean exists(String key) throws IOException {
+        Path file = file(key);
+        synchronized (shared.lock(file)) {
+            return shared.pending.containsKey(file) || Files.exists(file);
+        }
+    }
+
+    @Override
+    public ByteBuffer read(String key) throws IOException {
+        Path file = file(key);
+        synchronized (shared.lock(file)) {
+            byte[] value = readLocked(file);
+            return value != null ? ByteBuffer.wrap(value).asReadOnlyBuffer() : null;
+        }
+    }
+
+    @Override
+    public void write(String key, int offset, ByteBuffer data, boolean truncate) throws IOException {
+        Path file = file(key);
+        synchronized (shared.lock(file)) {
+            byte[] current = truncate ? NO_VALUE : readLocked(file);
+            if (current == null) {
+                current = NO_VALUE;
+            }
+            int length = data.remaining();
+            int size = truncate ? offset + length : Math.max(current.length, offset + length);
+            // a new array on every write, readers may still hold the previous one
+            byte[] updated = new byte[size];
+            System.arraycopy(current, 0, updated, 0, Math.min(current.length, size));
+            data.duplicate().get(updated, offset, length);
+            shared.pending.put(file, updated);
+            shared.sha1s.remove(file);
+        }
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Path file = file(key);
+        synchronized (shared.lock(file)) {
+            shared.pending.remove(file);
+            shared.sha1s.remove(file);
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        shared.flush();
+    }
+
+    @Override
+    public void writeSentry(String fileName, int offset, ByteBuffer data) throws IOException {
+        write(SENTRY_KEY, offset, data, false);
+    }
+
+    @Override
+    public byte[] getSentrySha1() throws IOException {
+        Path file = file(SENTRY_KEY);
+        byte[] sha1 = shared.sha1s.get(file);
+        if (sha1 == null) {
+            synchronized (shared.lock(file)) {
+                // computed under the lock, so a concurrent write can't leave a stale hash behind
+                byte[] value = readLocked(file);
+                sha1 = value != null ? sha1(value) : NO_VALUE;
+                shared.sha1s.put(file, sha1);
+            }
+        }
+        return sha1 != NO_VALUE ? sha1.clone() : null;
+    }
+
+    // writes out what is pending and stops the flush thread, for all views of this store
+    @Override
+    public void close() throws IOException {
+        shared.executor.shutdown();
+        shared.flush();
+    }
+
+    private Path file(String key) {
+        return directory.resolve(sanitize(key));
+    }
+
+    private byte[] readLocked(Path file) throws IOException {
+        byte[] value = shared.pending.get(file);
+        if (value != null) {
+            return value;
+        }
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer map = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+            value = new byte[map.remaining()];
+            map.get(value);
+            return value;
+        }
+    }
+
+    // keys and account names become single file names
+    private static String sanitize(String name) {
+        StringBuilder sb = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            boolean plain = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_' || c == '-' || (c == '.' && i > 0);
+            sb.append(plain ? c : '_');
+        }
+        return sb.length() > 0 ? sb.toString() : "_";
+    }
+
+    private static byte[] sha1(byte[] value) throws IOException {
+        try {
+            return MessageDigest.getInstance("SHA-1").digest(value);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private static class Shared {
+
+        private final Map<Path, byte[]> pending = new ConcurrentHashMap<>();
+        private final Map<Path, byte[]> sha1s = new ConcurrentHashMap<>();
+        private final Object[] locks = new Object[LOCK_STRIPES];
+        private final ScheduledExecutorService executor;
+
+        private Shared(long flushIntervalMillis) {
+            for (int i = 0; i < LOCK_STRIPES; i++) {
+                locks[i] = new Object();
+            }
+            executor = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "telekinesis-storage");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.scheduleWithFixedDelay(() -> {
+                try {
+                    flush();
+                } catch (IOException e) {
+                    log.error("flushing storage failed, will retry", e);
+                }
+            }, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+
+        private Object lock(Path file) {
+            return locks[(file.hashCode() & 0x7FFFFFFF) % LOCK_STRIPES];
+        }
+
+        // one flush at a time, so no file is truncated while an earlier mapping of it waits to be forced
+        private synchronized void flush() throws IOException {
+            List<MappedByteBuffer> written = new ArrayList<>();
+            IOException failure = null;
+            for (Path file : new ArrayList<>(pending.keySet())) {
+                synchronized (lock(file)) {
+                    byte[] value = pending.get(file);
+                    if (value == null) {
+                        continue;
+                    }
+                    try {
+                        written.add(writeMapped(file, value));
+                        pending.remove(file, value);
+                    } catch (IOException e) {
+                        // stays pending for the next round
+                        failure = e;
+                    }
+                }
+            }
+            for (MappedByteBuffer map : written) {
+                map.force();
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+
+        private static MappedByteBuffer writeMapped(Path file, byte[] value) throws IOException {
+            Files.createDirectories(file.getParent());
+            try (FileChannel ch = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                if (ch.size() > value.length) {
+                    ch.truncate(value.length);
+                }
+                MappedByteBuffer map = ch.map(FileChannel.MapMode.READ_WRITE, 0, value.length);
+                map.put(value);
+                return map;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,31 @@
+package telekinesis.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+// Key value storage for the sentry, the login key and the server caches of a client.
+// Keys are plain names without any path, implementations decide where and how they are kept.
+public interface SteamStorage {
+
+    String SENTRY_KEY = "sentry";
+
+    boolean exists(String key) throws IOException;
+
+    // the whole value, or null if there is none
+    ByteBuffer read(String key) throws IOException;
+
+    // writes data at the offset, with truncate the value ends after data
+    void write(String key, int offset, ByteBuffer data, boolean truncate) throws IOException;
+
+    void delete(String key) throws IOException;
+
+    // blocks until everything written so far is durable
+    void flush() throws IOException;
+
+    // fileName is the name the server gave the sentry, implementations may ignore it
+    void writeSentry(String fileName, int offset, ByteBuffer data) throws IOException;
+
+    // null if there is no sentry yet
+    byte[] getSentrySha1() throws IOException;
+
+}
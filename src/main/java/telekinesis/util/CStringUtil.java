@@ -1,6 +1,8 @@
 package telekinesis.util;
 
 import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+import io.netty.buffer.ByteBuf;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
@@ -9,35 +11,105 @@ import java.nio.charset.Charset;
 import java.nio.charset.CharsetDecoder;
 import java.nio.charset.CharsetEncoder;
 import java.nio.charset.CoderResult;
+import java.util.HashMap;
+import java.util.Map;
 
 public class CStringUtil {
 
     private static final Charset UTF8 = Charset.forName("UTF-8");
 
+    private static final int SCRATCH_SIZE = 4096;
+
+    // coders are expensive to create and not thread safe, keep one per thread and charset
+    private static final ThreadLocal<Map<Charset, CharsetDecoder>> DECODERS = ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<Map<Charset, CharsetEncoder>> ENCODERS = ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<char[]> CHAR_SCRATCH = ThreadLocal.withInitial(() -> new char[SCRATCH_SIZE]);
+    private static final ThreadLocal<byte[]> BYTE_SCRATCH = ThreadLocal.withInitial(() -> new byte[SCRATCH_SIZE]);
+
     public static String decodeUtf8(ByteString in) throws IOException {
-        return decode(UTF8, in.asReadOnlyByteBuffer());
+        int length = in.size() - 1;
+        if (length < 0 || in.byteAt(length) != 0) {
+            throw new IOException("not null terminated");
+        }
+        char[] chars = charScratch(length);
+        for (int i = 0; i < length; i++) {
+            byte b = in.byteAt(i);
+            if (b < 0) {
+                ByteBuffer buffer = in.asReadOnlyByteBuffer();
+                buffer.limit(buffer.position() + length);
+                return decoder(UTF8).decode(buffer).toString();
+            }
+            chars[i] = (char) b;
+        }
+        return new String(chars, 0, length);
+    }
+
+    // reads a null terminated string starting at the reader index and skips past the terminator
+    public static String readUtf8(ByteBuf in) throws IOException {
+        int length = in.bytesBefore((byte) 0);
+        if (length < 0) {
+            throw new IOException("not null terminated");
+        }
+        int start = in.readerIndex();
+        char[] chars = charScratch(length);
+        String result = null;
+        for (int i = 0; i < length; i++) {
+            byte b = in.getByte(start + i);
+            if (b < 0) {
+                result = decoder(UTF8).decode(in.nioBuffer(start, length)).toString();
+                break;
+            }
+            chars[i] = (char) b;
+        }
+        if (result == null) {
+            result = new String(chars, 0, length);
+        }
+        in.skipBytes(length + 1);
+        return result;
     }
 
     public static String decode(Charset charset, ByteBuffer in) throws IOException {
         int last = in.limit() - 1;
-        if (in.get(last) != 0) {
+        if (last < in.position() || in.get(last) != 0) {
             throw new IOException("not null terminated");
         }
-        in.limit(last);
-        CharsetDecoder decoder = charset.newDecoder();
-        CharBuffer out = decoder.decode(in);
-        return out.toString();
+        ByteBuffer content = in.duplicate();
+        content.limit(last);
+        return decoder(charset).decode(content).toString();
     }
 
     public static ByteString encodeUtf8(String in) throws IOException {
-        ByteBuffer buffer = encode(UTF8, in);
-        return ByteString.copyFrom(buffer);
+        byte[] bytes = new byte[utf8Length(in) + 1];
+        writeUtf8(in, bytes);
+        // the array is never touched again, no need for ByteString to copy it
+        return UnsafeByteOperations.unsafeWrap(bytes);
+    }
+
+    // writes the string including its terminator at the writer index
+    public static void writeUtf8(ByteBuf out, String in) throws IOException {
+        int length = utf8Length(in);
+        out.ensureWritable(length + 1);
+        if (out.hasArray()) {
+            int offset = out.arrayOffset() + out.writerIndex();
+            writeUtf8(in, out.array(), offset);
+            out.array()[offset + length] = 0;
+            out.writerIndex(out.writerIndex() + length + 1);
+        } else {
+            byte[] bytes = length <= SCRATCH_SIZE ? BYTE_SCRATCH.get() : new byte[length];
+            writeUtf8(in, bytes);
+            out.writeBytes(bytes, 0, length);
+            out.writeByte(0);
+        }
     }
 
     public static ByteBuffer encode(Charset charset, String in) throws IOException {
-        ByteBuffer out = ByteBuffer.allocate(in.length() * 2 + 1);
-        CharsetEncoder encoder = charset.newEncoder();
+        CharsetEncoder encoder = encoder(charset);
+        ByteBuffer out = ByteBuffer.allocate((int) (in.length() * encoder.maxBytesPerChar()) + 1);
+        encoder.reset();
         CoderResult coderResult = encoder.encode(CharBuffer.wrap(in), out, true);
+        if (!coderResult.isError()) {
+            coderResult = encoder.flush(out);
+        }
         if (coderResult.isError()) {
             throw new IOException("encoding failed");
         }
@@ -46,4 +118,77 @@ public class CStringUtil {
         return out;
     }
 
+    public static int utf8Length(String in) throws IOException {
+        int n = in.length();
+        int length = n;
+        int i = 0;
+        while (i < n && in.charAt(i) < 0x80) {
+            i++;
+        }
+        for (; i < n; i++) {
+            char c = in.charAt(i);
+            if (c < 0x80) {
+                continue;
+            }
+            if (c < 0x800) {
+                length += 1;
+            } else if (Character.isSurrogate(c)) {
+                if (!Character.isHighSurrogate(c) || i + 1 == n || !Character.isLowSurrogate(in.charAt(i + 1))) {
+                    throw new IOException("encoding failed");
+                }
+                // four bytes for the two chars of the pair
+                length += 2;
+                i++;
+            } else {
+                length += 2;
+            }
+        }
+        return length;
+    }
+
+    private static void writeUtf8(String in, byte[] out) {
+        writeUtf8(in, out, 0);
+    }
+
+    // expects a string already checked by utf8Length
+    private static void writeUtf8(String in, byte[] out, int offset) {
+        int n = in.length();
+        int p = offset;
+        int i = 0;
+        for (char c; i < n && (c = in.charAt(i)) < 0x80; i++) {
+            out[p++] = (byte) c;
+        }
+        for (; i < n; i++) {
+            char c = in.charAt(i);
+            if (c < 0x80) {
+                out[p++] = (byte) c;
+            } else if (c < 0x800) {
+                out[p++] = (byte) (0xC0 | (c >> 6));
+                out[p++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c)) {
+                int cp = Character.toCodePoint(c, in.charAt(++i));
+                out[p++] = (byte) (0xF0 | (cp >> 18));
+                out[p++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+                out[p++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+                out[p++] = (byte) (0x80 | (cp & 0x3F));
+            } else {
+                out[p++] = (byte) (0xE0 | (c >> 12));
+                out[p++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                out[p++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+    }
+
+    private static char[] charScratch(int length) {
+        return length <= SCRATCH_SIZE ? CHAR_SCRATCH.get() : new char[length];
+    }
+
+    private static CharsetDecoder decoder(Charset charset) {
+        return DECODERS.get().computeIfAbsent(charset, Charset::newDecoder);
+    }
+
+    private static CharsetEncoder encoder(Charset charset) {
+        return ENCODERS.get().computeIfAbsent(charset, Charset::newEncoder);
+    }
+
 }
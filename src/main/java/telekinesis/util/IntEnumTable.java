@@ -0,0 +1,56 @@
+package telekinesis.util;
+
+import java.util.function.ToIntFunction;
+
+// Code to constant lookup for the int coded enums. Codes are split into pages of 256 slots,
+// pages without any constant all share one empty page, so a lookup is a range check and two array reads.
+// If several constants share a code, the one declared last wins.
+public class IntEnumTable<E extends Enum<E>> {
+
+    private static final int PAGE_BITS = 8;
+    private static final int PAGE_SIZE = 1 << PAGE_BITS;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+    private static final Object[] EMPTY_PAGE = new Object[PAGE_SIZE];
+
+    private final int min;
+    private final Object[][] pages;
+
+    public IntEnumTable(E[] constants, ToIntFunction<E> code) {
+        int lo = Integer.MAX_VALUE;
+        int hi = Integer.MIN_VALUE;
+        for (E constant : constants) {
+            int c = code.applyAsInt(constant);
+            lo = Math.min(lo, c);
+            hi = Math.max(hi, c);
+        }
+        if (constants.length == 0) {
+            lo = 0;
+            hi = -1;
+        }
+        min = lo;
+        int pageCount = (int) ((((long) hi - lo) >>> PAGE_BITS) + 1);
+        pages = new Object[pageCount][];
+        for (int i = 0; i < pageCount; i++) {
+            pages[i] = EMPTY_PAGE;
+        }
+        for (E constant : constants) {
+            int offset = code.applyAsInt(constant) - min;
+            int page = offset >>> PAGE_BITS;
+            if (pages[page] == EMPTY_PAGE) {
+                pages[page] = new Object[PAGE_SIZE];
+            }
+            pages[page][offset & PAGE_MASK] = constant;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public E get(int code) {
+        // codes below min wrap around to a huge unsigned offset and fail the range check as well
+        int page = (code - min) >>> PAGE_BITS;
+        if (page >= pages.length) {
+            return null;
+        }
+        return (E) pages[page][(code - min) & PAGE_MASK];
+    }
+
+}
@@ -0,0 +1,201 @@
+package telekinesis.util;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+import java.util.function.LongConsumer;
+
+// Open addressing hash table from non-zero long keys to a fixed number of int columns.
+// Rows live in a single heap or direct ByteBuf, so neither keys nor values are boxed.
+public class LongIntTable {
+
+    private static final long EMPTY = 0L;
+    private static final int MIN_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private final int columns;
+    private final int rowSize;
+    private final boolean direct;
+    private ByteBuf rows;
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+
+    public LongIntTable(int columns, int expectedSize, boolean direct) {
+        this.columns = columns;
+        this.rowSize = 8 + 4 * columns;
+        this.direct = direct;
+        allocate(capacityFor(expectedSize));
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity * LOAD_FACTOR < expectedSize) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private void allocate(int capacity) {
+        int bytes = capacity * rowSize;
+        rows = direct ? Unpooled.directBuffer(bytes, bytes) : Unpooled.buffer(bytes, bytes);
+        rows.setZero(0, bytes);
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isDirect() {
+        return direct;
+    }
+
+    public boolean containsKey(long key) {
+        return find(key) >= 0;
+    }
+
+    public int get(long key, int column, int defaultValue) {
+        int slot = find(key);
+        return slot >= 0 ? rows.getInt(columnOffset(slot, column)) : defaultValue;
+    }
+
+    // returns the previous value, 0 if the row did not exist
+    public int put(long key, int column, int value) {
+        int slot = findOrInsert(key);
+        int offset = columnOffset(slot, column);
+        int previous = rows.getInt(offset);
+        rows.setInt(offset, value);
+        return previous;
+    }
+
+    public boolean remove(long key) {
+        int slot = find(key);
+        if (slot < 0) {
+            return false;
+        }
+        // backward shift deletion, keeps probe sequences intact without tombstones
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (true) {
+            long nextKey = keyAt(next);
+            if (nextKey == EMPTY) {
+                break;
+            }
+            int home = slotFor(nextKey);
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                rows.setBytes(hole * rowSize, rows, next * rowSize, rowSize);
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        rows.setZero(hole * rowSize, rowSize);
+        size--;
+        return true;
+    }
+
+    public void clear() {
+        rows.setZero(0, rows.capacity());
+        size = 0;
+    }
+
+    public void forEachKey(LongConsumer consumer) {
+        for (int slot = 0; slot <= mask; slot++) {
+            long key = keyAt(slot);
+            if (key != EMPTY) {
+                consumer.accept(key);
+            }
+        }
+    }
+
+    public void setColumn(int column, int value) {
+        for (int slot = 0; slot <= mask; slot++) {
+            if (keyAt(slot) != EMPTY) {
+                rows.setInt(columnOffset(slot, column), value);
+            }
+        }
+    }
+
+    public void release() {
+        rows.release();
+    }
+
+    private int find(long key) {
+        checkKey(key);
+        int slot = slotFor(key);
+        while (true) {
+            long k = keyAt(slot);
+            if (k == key) {
+                return slot;
+            }
+            if (k == EMPTY) {
+                return -1;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private int findOrInsert(long key) {
+        checkKey(key);
+        int slot = slotFor(key);
+        while (true) {
+            long k = keyAt(slot);
+            if (k == key) {
+                return slot;
+            }
+            if (k == EMPTY) {
+                if (size >= resizeThreshold) {
+                    grow();
+                    return findOrInsert(key);
+                }
+                rows.setLong(slot * rowSize, key);
+                size++;
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void grow() {
+        ByteBuf old = rows;
+        int oldCapacity = mask + 1;
+        allocate(oldCapacity << 1);
+        for (int slot = 0; slot < oldCapacity; slot++) {
+            long key = old.getLong(slot * rowSize);
+            if (key != EMPTY) {
+                int target = slotFor(key);
+                while (keyAt(target) != EMPTY) {
+                    target = (target + 1) & mask;
+                }
+                rows.setBytes(target * rowSize, old, slot * rowSize, rowSize);
+            }
+        }
+        old.release();
+    }
+
+    private long keyAt(int slot) {
+        return rows.getLong(slot * rowSize);
+    }
+
+    private int columnOffset(int slot, int column) {
+        return slot * rowSize + 8 + 4 * column;
+    }
+
+    private int slotFor(long key) {
+        // steam ids differ mostly in the low bits, spread them over the whole hash
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private static void checkKey(long key) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("0 cannot be used as a key");
+        }
+    }
+
+}
@@ -0,0 +1,71 @@
+package telekinesis.util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+// Interns strings into small int ids, so tables can store names as plain ints.
+// Id 0 stands for "no name". Every intern holds a reference that is given back with release,
+// a name without references is dropped and its id reused, so a shared pool only keeps names in use.
+public class NamePool {
+
+    public static final NamePool SHARED = new NamePool();
+
+    private final Map<String, Integer> ids = new HashMap<>();
+    private volatile String[] names = new String[64];
+    private int[] references = new int[64];
+    private int[] freeIds = new int[16];
+    private int freeCount;
+    private int nextId = 1;
+
+    public synchronized int intern(String name) {
+        if (name == null) {
+            return 0;
+        }
+        Integer id = ids.get(name);
+        if (id != null) {
+            references[id]++;
+            return id;
+        }
+        int newId;
+        String[] current = names;
+        if (freeCount > 0) {
+            newId = freeIds[--freeCount];
+        } else {
+            newId = nextId++;
+            if (newId == current.length) {
+                current = Arrays.copyOf(current, current.length << 1);
+                references = Arrays.copyOf(references, current.length);
+            }
+        }
+        current[newId] = name;
+        names = current;
+        references[newId] = 1;
+        ids.put(name, newId);
+        return newId;
+    }
+
+    public synchronized void release(int id) {
+        if (id <= 0 || id >= nextId || references[id] == 0) {
+            return;
+        }
+        if (--references[id] == 0) {
+            ids.remove(names[id]);
+            names[id] = null;
+            if (freeCount == freeIds.length) {
+                freeIds = Arrays.copyOf(freeIds, freeIds.length << 1);
+            }
+            freeIds[freeCount++] = id;
+        }
+    }
+
+    public String get(int id) {
+        String[] current = names;
+        return id > 0 && id < current.length ? current[id] : null;
+    }
+
+    public synchronized int size() {
+        return ids.size();
+    }
+
+}
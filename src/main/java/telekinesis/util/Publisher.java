@@ -1,48 +1,64 @@
 package telekinesis.util;
 
-import java.util.HashMap;
-import java.util.LinkedHashSet;
+import java.util.Arrays;
 import java.util.Map;
-import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+// Subscribing and unsubscribing may happen on any thread. Each change replaces the handler array of
+// its event class, so publishing walks a snapshot without taking a lock and never sees a half made change.
 public class Publisher<C> {
 
-    private final Map<Class, Set> subscribers = new HashMap<>();
+    private static final Handler<?, ?>[] NO_HANDLERS = new Handler<?, ?>[0];
 
-    private <E> Set<Handler<C, E>> getHandlers(Class<E> eventClass) {
-        return subscribers.get(eventClass);
-    }
+    private final Map<Class<?>, Handler<?, ?>[]> subscribers = new ConcurrentHashMap<>();
 
     public <E> void subscribe(Class<E> eventClass, Handler<C, E> handler) {
-        Set<Handler<C, E>> handlers = getHandlers(eventClass);
-        if (handlers == null) {
-            handlers = new LinkedHashSet<>();
-            subscribers.put(eventClass, handlers);
-        }
-        handlers.add(handler);
+        subscribers.compute(eventClass, (k, handlers) -> {
+            if (handlers == null) {
+                handlers = NO_HANDLERS;
+            }
+            for (Handler<?, ?> h : handlers) {
+                if (h.equals(handler)) {
+                    return handlers;
+                }
+            }
+            Handler<?, ?>[] updated = Arrays.copyOf(handlers, handlers.length + 1);
+            updated[handlers.length] = handler;
+            return updated;
+        });
     }
 
     public <E> void unsubscribe(Class<E> eventClass, Handler<C, E> handler) {
-        Set<Handler<C, E>> handlers = getHandlers(eventClass);
-        handlers.remove(handler);
-        if (handlers.size() == 0) {
-            subscribers.remove(handlers);
-        }
+        subscribers.computeIfPresent(eventClass, (k, handlers) -> {
+            for (int i = 0; i < handlers.length; i++) {
+                if (handlers[i].equals(handler)) {
+                    if (handlers.length == 1) {
+                        return null;
+                    }
+                    Handler<?, ?>[] updated = new Handler<?, ?>[handlers.length - 1];
+                    System.arraycopy(handlers, 0, updated, 0, i);
+                    System.arraycopy(handlers, i + 1, updated, i, handlers.length - i - 1);
+                    return updated;
+                }
+            }
+            return handlers;
+        });
     }
 
     protected <E> boolean isSubscribed(E event) {
-        Set<Handler<C, E>> handlers = getHandlers((Class<E>)event.getClass());
-        return handlers != null;
+        return subscribers.containsKey(event.getClass());
     }
 
+    // subscribe only files a Handler<C, E> under Class<E>, so every handler of the event's class takes it
+    @SuppressWarnings("unchecked")
     protected <E> void publish(C ctx, E event) {
-        Set<Handler<C, E>> handlers = getHandlers((Class<E>)event.getClass());
+        Handler<?, ?>[] handlers = subscribers.get(event.getClass());
         if (handlers == null) {
             return;
         }
-        for (Handler<C, E> handler : handlers) {
+        for (Handler<?, ?> handler : handlers) {
             try {
-                handler.handle(ctx, event);
+                ((Handler<C, E>) handler).handle(ctx, event);
             } catch (Exception e) {
                 throw new RuntimeException(e);
             }
@@ -0,0 +1,163 @@
+package telekinesis.util;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+// Reactive Streams publisher for items pushed from the event loop.
+// Items a subscriber has no demand for are buffered, and backlogListener is told to stop the source until they are drained.
+// complete() and error() end the current subscriptions, after the items they buffered for complete(), right away for error().
+// The publisher itself stays usable for later subscribers.
+// On Java 9+, org.reactivestreams.FlowAdapters turns this into a java.util.concurrent.Flow.Publisher.
+public class StreamPublisher<T> implements org.reactivestreams.Publisher<T> {
+
+    private final List<StreamSubscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final Consumer<Boolean> backlogListener;
+    private boolean backlogged;
+
+    public StreamPublisher(Consumer<Boolean> backlogListener) {
+        this.backlogListener = backlogListener;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("subscriber is null");
+        }
+        StreamSubscription subscription = new StreamSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+        if (!subscription.cancelled) {
+            subscriptions.add(subscription);
+        }
+    }
+
+    public boolean hasSubscribers() {
+        return !subscriptions.isEmpty();
+    }
+
+    public void emit(T item) {
+        for (StreamSubscription subscription : subscriptions) {
+            subscription.buffer.offer(item);
+            subscription.drain();
+        }
+    }
+
+    public void complete() {
+        terminate(null);
+    }
+
+    public void error(Throwable cause) {
+        terminate(cause);
+    }
+
+    private void terminate(Throwable cause) {
+        for (StreamSubscription subscription : subscriptions) {
+            subscriptions.remove(subscription);
+            subscription.error = cause;
+            subscription.done = true;
+            subscription.drain();
+        }
+        updateBacklog();
+    }
+
+    private synchronized void updateBacklog() {
+        boolean nowBacklogged = false;
+        for (StreamSubscription subscription : subscriptions) {
+            if (!subscription.buffer.isEmpty()) {
+                nowBacklogged = true;
+                break;
+            }
+        }
+        if (nowBacklogged != backlogged) {
+            backlogged = nowBacklogged;
+            backlogListener.accept(nowBacklogged);
+        }
+    }
+
+    private class StreamSubscription implements Subscription {
+
+        private final Subscriber<? super T> subscriber;
+        private final Queue<T> buffer = new ConcurrentLinkedQueue<>();
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile boolean cancelled;
+        private volatile boolean done;
+        private volatile Throwable error;
+
+        private StreamSubscription(Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0L) {
+                // rule 3.9, signalled through drain so it can't overlap an onNext on another thread
+                subscriptions.remove(this);
+                error = new IllegalArgumentException("non-positive request " + n);
+                done = true;
+                drain();
+                return;
+            }
+            long current;
+            do {
+                current = requested.get();
+                if (current == Long.MAX_VALUE) {
+                    break;
+                }
+            } while (!requested.compareAndSet(current, current + n < 0L ? Long.MAX_VALUE : current + n));
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            subscriptions.remove(this);
+            buffer.clear();
+            updateBacklog();
+        }
+
+        // serializes onNext calls, whichever thread emits or requests
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                long r = requested.get();
+                long e = 0L;
+                while (e != r && !cancelled) {
+                    T item = buffer.poll();
+                    if (item == null) {
+                        break;
+                    }
+                    subscriber.onNext(item);
+                    e++;
+                }
+                if (e != 0L && r != Long.MAX_VALUE) {
+                    requested.addAndGet(-e);
+                }
+                // the terminal signal goes through here too, so it never overlaps an onNext
+                if (done && !cancelled && (error != null || buffer.isEmpty())) {
+                    cancelled = true;
+                    buffer.clear();
+                    if (error != null) {
+                        subscriber.onError(error);
+                    } else {
+                        subscriber.onComplete();
+                    }
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+            updateBacklog();
+        }
+
+    }
+
+}
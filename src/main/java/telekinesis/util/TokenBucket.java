@@ -0,0 +1,51 @@
+package telekinesis.util;
+
+import java.util.concurrent.TimeUnit;
+
+// Classic token bucket on System.nanoTime(). Not thread safe, callers synchronize.
+public class TokenBucket {
+
+    private final double tokensPerNano;
+    private final double capacity;
+    private double tokens;
+    private long lastRefill;
+
+    public TokenBucket(double tokensPerSecond, int burst) {
+        this.tokensPerNano = tokensPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.capacity = burst;
+        this.tokens = burst;
+        this.lastRefill = System.nanoTime();
+    }
+
+    private void refill(long now) {
+        if (now - lastRefill > 0L) {
+            tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+            lastRefill = now;
+        }
+    }
+
+    public boolean canAcquire(long now) {
+        refill(now);
+        return tokens >= 1.0;
+    }
+
+    public boolean tryAcquire(long now) {
+        refill(now);
+        if (tokens < 1.0) {
+            return false;
+        }
+        tokens -= 1.0;
+        return true;
+    }
+
+    public long nanosUntilAvailable(long now) {
+        refill(now);
+        return tokens >= 1.0 ? 0L : (long) Math.ceil((1.0 - tokens) / tokensPerNano);
+    }
+
+    public boolean isFull(long now) {
+        refill(now);
+        return tokens >= capacity;
+    }
+
+}
@@ -0,0 +1,89 @@
+package telekinesis.bench;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import telekinesis.connection.codec.AESCodec;
+import telekinesis.connection.codec.HmacAESCodec;
+import telekinesis.model.steam.EUniverse;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Compares the legacy random IV AESCodec with HmacAESCodec: every operation encrypts a message on the
+// outbound side of an EmbeddedChannel and feeds the result back to the inbound side of the same codec.
+// Both codecs decrypt and encrypt into a newly allocated heap buffer from the channel's allocator and
+// release the input, so the bytes per operation include the output buffers.
+//
+//   mvn -B test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+//   java -cp target/classes:target/test-classes:$(cat target/cp.txt) telekinesis.bench.ChannelEncryptionBench [seconds]
+public class ChannelEncryptionBench {
+
+    private static final int[] SIZES = { 64, 4096, 65536 };
+
+    public static void main(String[] args) throws Exception {
+        double seconds = args.length > 0 ? Double.parseDouble(args[0]) : 1.0;
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        threads.setThreadAllocatedMemoryEnabled(true);
+        long thread = Thread.currentThread().getId();
+
+        byte[] challenge = new byte[16];
+        ThreadLocalRandom.current().nextBytes(challenge);
+
+        System.out.printf("%8s %12s %12s %14s %14s%n", "size", "legacy us", "hmac us", "legacy B/op", "hmac B/op");
+        for (int size : SIZES) {
+            byte[] message = new byte[size];
+            ThreadLocalRandom.current().nextBytes(message);
+            ByteBuf plain = Unpooled.wrappedBuffer(message);
+
+            EmbeddedChannel legacy = new EmbeddedChannel(new AESCodec(EUniverse.Public));
+            EmbeddedChannel hmac = new EmbeddedChannel(new HmacAESCodec(EUniverse.Public, challenge));
+
+            // warm up both before measuring either
+            long warmup = (long) (seconds * 1e9);
+            run(legacy, plain, message, warmup);
+            run(hmac, plain, message, warmup);
+
+            long legacyBefore = threads.getThreadAllocatedBytes(thread);
+            long[] legacyResult = run(legacy, plain, message, warmup);
+            long legacyBytes = threads.getThreadAllocatedBytes(thread) - legacyBefore;
+
+            long hmacBefore = threads.getThreadAllocatedBytes(thread);
+            long[] hmacResult = run(hmac, plain, message, warmup);
+            long hmacBytes = threads.getThreadAllocatedBytes(thread) - hmacBefore;
+
+            System.out.printf("%8d %12.2f %12.2f %14d %14d%n", size,
+                    legacyResult[1] / 1e3 / legacyResult[0], hmacResult[1] / 1e3 / hmacResult[0],
+                    legacyBytes / legacyResult[0], hmacBytes / hmacResult[0]);
+
+            legacy.finish();
+            hmac.finish();
+            plain.release();
+        }
+    }
+
+    // round trips for about the given time, returns the operations and the nanoseconds taken
+    private static long[] run(EmbeddedChannel channel, ByteBuf plain, byte[] message, long nanos) {
+        long ops = 0L;
+        long start = System.nanoTime();
+        long elapsed;
+        do {
+            for (int i = 0; i < 100; i++) {
+                // the codec releases what it is given, the duplicate shares the count of the template
+                channel.writeOutbound(plain.duplicate().retain());
+                ByteBuf encrypted = (ByteBuf) channel.readOutbound();
+                channel.writeInbound(encrypted);
+                ByteBuf decrypted = (ByteBuf) channel.readInbound();
+                if (decrypted.readableBytes() != message.length || decrypted.getByte(message.length - 1) != message[message.length - 1]) {
+                    throw new IllegalStateException("round trip changed the message");
+                }
+                decrypted.release();
+            }
+            ops += 100;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < nanos);
+        return new long[] { ops, elapsed };
+    }
+
+}
@@ -0,0 +1,86 @@
+package telekinesis.bench;
+
+import telekinesis.model.steam.SteamId;
+
+import java.lang.management.ManagementFactory;
+
+// Checks that friend list processing on raw steam ids doesn't allocate: every round reads the fields of
+// 10,000 friend ids, renders the Steam2 and Steam3 forms into a reused StringBuilder and parses them back.
+// Allocation is read from the per thread counter of the HotSpot ThreadMXBean, so it needs a HotSpot JVM.
+//
+//   mvn -B test-compile
+//   java -cp target/classes:target/test-classes telekinesis.bench.SteamIdAllocationBench [rounds]
+//
+// Exits with status 1 if the measured rounds allocated anything.
+public class SteamIdAllocationBench {
+
+    private static final int FRIENDS = 10000;
+    private static final int WARMUP_ROUNDS = 200;
+
+    public static void main(String[] args) {
+        int rounds = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threads.isThreadAllocatedMemorySupported()) {
+            System.err.println("this JVM doesn't count allocated bytes per thread");
+            System.exit(2);
+        }
+        threads.setThreadAllocatedMemoryEnabled(true);
+        long thread = Thread.currentThread().getId();
+
+        long[] friends = new long[FRIENDS];
+        for (int i = 0; i < FRIENDS; i++) {
+            friends[i] = SteamId.individual(12345678L + i * 7919L);
+        }
+        StringBuilder sb = new StringBuilder(64);
+
+        long check = 0L;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            check += round(friends, sb);
+        }
+
+        // the counter itself returns a primitive, reading it twice in a row is the baseline
+        long baseline = threads.getThreadAllocatedBytes(thread);
+        baseline = threads.getThreadAllocatedBytes(thread) - baseline;
+
+        long start = System.nanoTime();
+        long before = threads.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < rounds; i++) {
+            check += round(friends, sb);
+        }
+        long allocated = threads.getThreadAllocatedBytes(thread) - before - baseline;
+        long elapsed = System.nanoTime() - start;
+
+        long ids = (long) rounds * FRIENDS;
+        System.out.printf("%d ids in %d rounds: %d bytes allocated, %.2f bytes/id, %.1f ns/id (check %d)%n",
+                ids, rounds, allocated, (double) allocated / ids, (double) elapsed / ids, check);
+        if (allocated > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static long round(long[] friends, StringBuilder sb) {
+        long check = 0L;
+        for (long friend : friends) {
+            if (!SteamId.isIndividual(friend) || !SteamId.isValid(friend)) {
+                throw new IllegalStateException("not a friend id: " + friend);
+            }
+            check += SteamId.accountId(friend) + SteamId.instance(friend) + SteamId.universe(friend);
+
+            sb.setLength(0);
+            SteamId.appendSteam3(sb, friend);
+            if (SteamId.parse(sb) != friend) {
+                throw new IllegalStateException("steam3 round trip failed for " + sb);
+            }
+
+            sb.setLength(0);
+            SteamId.appendSteam2(sb, friend);
+            if (SteamId.accountId(SteamId.parse(sb)) != SteamId.accountId(friend)) {
+                throw new IllegalStateException("steam2 round trip failed for " + sb);
+            }
+            check += sb.length();
+        }
+        return check;
+    }
+
+}